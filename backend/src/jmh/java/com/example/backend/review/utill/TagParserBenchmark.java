@@ -0,0 +1,44 @@
+package com.example.backend.review.utill;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * TagParser 처리량 비교 (이전 정규식 구현 vs 현재 한 번 훑기)
+ * ./gradlew jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TagParserBenchmark {
+
+    @Param({
+            "#대형견 #놀이터",
+            "  ##Java  #스프링부트!!,  #React.js,  #c++ #단일글자_A #한글태그 #ㄱㄴㄷ #ㅏㅓㅗ",
+            "#대형견,#소형견,#중형견,#놀이터,#주차가능,#실내,#실외,#애견카페,#산책로,#수영장,#펜션,#캠핑,#동물병원,#미용,#호텔"
+    })
+    public String input;
+
+    private final TagParser parser = new TagParser();
+
+    @Benchmark
+    public Set<String> current() {
+        return parser.parseTags(input);
+    }
+
+    @Benchmark
+    public Set<String> legacy() {
+        String normalizedInput = input.trim().replace(",", " ").replaceAll("\\s+", " ");
+        return Arrays.stream(normalizedInput.split(" "))
+                .map(tag -> tag.toLowerCase().replaceAll("[^\\w가-힣ㄱ-ㅎㅏ-ㅣ-]", ""))
+                .filter(tag -> !tag.isEmpty() && tag.length() >= 2 && tag.length() <= 20)
+                .collect(Collectors.toSet());
+    }
+}
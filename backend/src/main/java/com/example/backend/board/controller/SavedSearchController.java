@@ -0,0 +1,55 @@
+package com.example.backend.board.controller;
+
+import com.example.backend.board.dto.SavedSearchDto;
+import com.example.backend.board.dto.SavedSearchForm;
+import com.example.backend.board.service.SavedSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/board/saved-search")
+public class SavedSearchController {
+
+    private final SavedSearchService savedSearchService;
+
+    // ✅ 관심 검색 등록 (새 글이 조건에 맞으면 /user/queue/saved-search 로 알림)
+    @PostMapping
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> register(@RequestBody SavedSearchForm form, Authentication authentication) {
+        try {
+            SavedSearchDto dto = savedSearchService.register(form, authentication);
+            return ResponseEntity.ok(Map.of(
+                    "savedSearch", dto,
+                    "message", Map.of("type", "success", "text", "관심 검색이 등록되었습니다.")
+            ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "message", Map.of("type", "error", "text", e.getMessage())
+            ));
+        }
+    }
+
+    // ✅ 내 관심 검색 목록
+    @GetMapping
+    @PreAuthorize("isAuthenticated()")
+    public List<SavedSearchDto> list(Authentication authentication) {
+        return savedSearchService.list(authentication);
+    }
+
+    // ✅ 관심 검색 삭제 (본인만)
+    @DeleteMapping("/{id}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> delete(@PathVariable Long id, Authentication authentication) {
+        savedSearchService.delete(id, authentication);
+        return ResponseEntity.ok(Map.of(
+                "message", Map.of("type", "success", "text", "관심 검색이 삭제되었습니다.")
+        ));
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.backend.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** /user/queue/saved-search 로 전송되는 새 글 알림 */
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+public class SavedSearchAlertDto {
+    private Long    savedSearchId;
+    private Integer boardId;
+    private String  title;
+    private Integer price;
+    private String  category;
+    private String  regionSido;
+    private String  regionSigungu;
+}
@@ -0,0 +1,21 @@
+package com.example.backend.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+public class SavedSearchDto {
+    private Long id;
+    private String  keyword;
+    private String  category;
+    private String  tradeStatus;
+    private Integer minPrice;
+    private Integer maxPrice;
+    private String  regionSido;
+    private String  regionSigungu;
+    private LocalDateTime insertedAt;
+}
@@ -0,0 +1,14 @@
+package com.example.backend.board.dto;
+
+import lombok.Data;
+
+@Data
+public class SavedSearchForm {
+    private String  keyword;        // 제목/본문/닉네임 포함 검색
+    private String  category;
+    private String  tradeStatus;    // ON_SALE, RESERVED, SOLD_OUT
+    private Integer minPrice;
+    private Integer maxPrice;
+    private String  regionSido;
+    private String  regionSigungu;
+}
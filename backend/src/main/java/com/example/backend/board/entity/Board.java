@@ -4,6 +4,7 @@ import com.example.backend.member.entity.Member;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -52,7 +53,9 @@ public class Board {
     @Column(name = "view_count", nullable = false)
     private Integer viewCount = 0;
 
-    @Column(name = "like_count", nullable = false)
+    // LikeService 토글(adjustLikeCount)과 BoardLikeReconciler 보정으로만 바뀜 → 게시글 수정(updateWithFiles)이 덮어쓰지 않게 INSERT/UPDATE 제외
+    @ColumnDefault("0")
+    @Column(name = "like_count", nullable = false, insertable = false, updatable = false)
     private Integer likeCount = 0;
 
     // ===== 연관관계 =====
@@ -67,12 +70,4 @@ public class Board {
     public void increaseViewCount() {
         this.viewCount = (this.viewCount == null ? 1 : this.viewCount + 1);
     }
-
-    public void increaseLikeCount() {
-        this.likeCount = (this.likeCount == null ? 1 : this.likeCount + 1);
-    }
-
-    public void decreaseLikeCount() {
-        if (this.likeCount != null && this.likeCount > 0) this.likeCount -= 1;
-    }
 }
@@ -0,0 +1,48 @@
+package com.example.backend.board.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/** 관심 검색 조건 (새 글이 조건에 맞으면 STOMP 로 알림) */
+@Entity
+@Table(name = "saved_search", indexes = {
+        @Index(name = "idx_saved_search_member", columnList = "member_id")
+})
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class SavedSearch {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    // ── searchBoards 와 같은 필터 (null = 조건 없음) ──
+    @Column(length = 100)
+    private String keyword;
+
+    @Column(length = 50)
+    private String category;
+
+    @Column(name = "trade_status", length = 20)
+    private String tradeStatus;
+
+    @Column(name = "min_price")
+    private Integer minPrice;
+
+    @Column(name = "max_price")
+    private Integer maxPrice;
+
+    @Column(name = "region_sido", length = 30)
+    private String regionSido;
+
+    @Column(name = "region_sigungu", length = 30)
+    private String regionSigungu;
+
+    @CreationTimestamp
+    @Column(name = "inserted_at", insertable = false, updatable = false)
+    private LocalDateTime insertedAt;
+}
@@ -2,9 +2,16 @@
 package com.example.backend.board.repository;
 
 import com.example.backend.boardreport.entity.BoardReport;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
 
 public interface BoardReportRepository extends JpaRepository<BoardReport, Long> {
 
@@ -14,4 +21,27 @@ public interface BoardReportRepository extends JpaRepository<BoardReport, Long>
     Page<BoardReport> findByStatusIgnoreCase(String status, Pageable pageable);
     Page<BoardReport> findByBoard_Id(Integer boardId, Pageable pageable);
     Page<BoardReport> findByStatusIgnoreCaseAndBoard_Id(String status, Integer boardId, Pageable pageable);
+
+    // 관리자 내보내기용 (커서로 조금씩)
+    interface BoardReportExportRow {
+        Long getId();
+        Integer getBoardId();
+        Long getReporterId();
+        String getReason();
+        String getDetail();
+        String getStatus();
+        String getAdminMemo();
+        LocalDateTime getInsertedAt();
+        LocalDateTime getUpdatedAt();
+    }
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+                SELECT br.id AS id, br.board.id AS boardId, br.reporter.id AS reporterId, br.reason AS reason,
+                       br.detail AS detail, br.status AS status, br.adminMemo AS adminMemo,
+                       br.insertedAt AS insertedAt, br.updatedAt AS updatedAt
+                FROM BoardReport br
+                ORDER BY br.id
+            """)
+    Stream<BoardReportExportRow> streamAllForExport();
 }
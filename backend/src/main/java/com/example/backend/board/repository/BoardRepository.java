@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -99,15 +100,21 @@ public interface BoardRepository extends JpaRepository<Board, Integer> {
 
 
     // ✅ 검색(필터) + 작성자 필터(authorId)
-    @Query("""
+    //  - 댓글/좋아요/파일 수는 GROUP BY 조인 대신 스칼라 서브쿼리로 계산 → 페이지에 포함된 행에 대해서만 실행
+    //  - 컬럼을 함수로 감싸지 않음(utf8mb4_unicode_ci 라 비교 자체가 대소문자 무시) → idx_board_* 인덱스 사용 가능
+    //  - idx_board_* 는 필터용: ORDER BY id DESC 는 인덱스 컬럼이 모두 등치일 때만 인덱스 순서로 끝나고
+    //    (예: category + trade_status 만이면 (price, id) 순 → 걸러진 행 filesort 후 LIMIT)
+    //  - count 쿼리는 board 필터 컬럼만 참조 → 필터 조합에 맞는 인덱스만으로 계산(커버링)
+    //    (author 는 NOT NULL FK 라 LEFT JOIN 이어도 결과 동일, 키워드가 없으면 MariaDB 가 조인을 제거)
+    @Query(value = """
         SELECT new com.example.backend.board.dto.BoardListDto(
             b.id,
             b.title,
             m.nickName,
             b.insertedAt,
-            COUNT(DISTINCT c.id),
-            COUNT(DISTINCT l.id),
-            COUNT(DISTINCT f.id),
+            (SELECT COUNT(c) FROM Comment   c WHERE c.board.id = b.id),
+            (SELECT COUNT(l) FROM BoardLike l WHERE l.board.id = b.id),
+            (SELECT COUNT(f) FROM BoardFile f WHERE f.board.id = b.id),
             b.tradeStatus,
             m.id,
             b.price,
@@ -119,26 +126,38 @@ public interface BoardRepository extends JpaRepository<Board, Integer> {
         )
         FROM Board b
         JOIN b.author m
-        LEFT JOIN Comment  c ON c.board.id  = b.id
-        LEFT JOIN BoardLike l ON l.board.id = b.id
-        LEFT JOIN BoardFile f ON f.board.id = b.id
         WHERE (
             :keyword IS NULL OR :keyword = ''
-            OR LOWER(b.title)    LIKE LOWER(CONCAT('%', :keyword, '%'))
-            OR LOWER(b.content)  LIKE LOWER(CONCAT('%', :keyword, '%'))
-            OR LOWER(m.nickName) LIKE LOWER(CONCAT('%', :keyword, '%'))
+            OR b.title    LIKE CONCAT('%', :keyword, '%')
+            OR b.content  LIKE CONCAT('%', :keyword, '%')
+            OR m.nickName LIKE CONCAT('%', :keyword, '%')
         )
-        AND ( :category      IS NULL OR :category      = '' OR LOWER(b.category) = LOWER(:category) )
-        AND ( :tradeStatus   IS NULL OR :tradeStatus   = '' OR b.tradeStatus = :tradeStatus )
-        AND ( :minPrice      IS NULL OR b.price >= :minPrice )
-        AND ( :maxPrice      IS NULL OR b.price <= :maxPrice )
-        AND ( :regionSido    IS NULL OR :regionSido    = '' OR b.regionSido   = :regionSido )
-        AND ( :regionSigungu IS NULL OR :regionSigungu = '' OR b.regionSigungu = :regionSigungu )
-        AND ( :authorId      IS NULL OR m.id = :authorId )
-        GROUP BY b.id, b.title, m.nickName, b.insertedAt,
-                 b.tradeStatus, m.id, b.price, b.category,
-                 b.regionSido, b.regionSigungu, b.viewCount, b.likeCount
+        AND ( :category      IS NULL OR b.category      = :category )
+        AND ( :tradeStatus   IS NULL OR b.tradeStatus   = :tradeStatus )
+        AND ( :minPrice      IS NULL OR b.price        >= :minPrice )
+        AND ( :maxPrice      IS NULL OR b.price        <= :maxPrice )
+        AND ( :regionSido    IS NULL OR b.regionSido    = :regionSido )
+        AND ( :regionSigungu IS NULL OR b.regionSigungu = :regionSigungu )
+        AND ( :authorId      IS NULL OR b.author.id     = :authorId )
         ORDER BY b.id DESC
+        """,
+        countQuery = """
+        SELECT COUNT(b)
+        FROM Board b
+        LEFT JOIN b.author m
+        WHERE (
+            :keyword IS NULL OR :keyword = ''
+            OR b.title    LIKE CONCAT('%', :keyword, '%')
+            OR b.content  LIKE CONCAT('%', :keyword, '%')
+            OR m.nickName LIKE CONCAT('%', :keyword, '%')
+        )
+        AND ( :category      IS NULL OR b.category      = :category )
+        AND ( :tradeStatus   IS NULL OR b.tradeStatus   = :tradeStatus )
+        AND ( :minPrice      IS NULL OR b.price        >= :minPrice )
+        AND ( :maxPrice      IS NULL OR b.price        <= :maxPrice )
+        AND ( :regionSido    IS NULL OR b.regionSido    = :regionSido )
+        AND ( :regionSigungu IS NULL OR b.regionSigungu = :regionSigungu )
+        AND ( :authorId      IS NULL OR b.author.id     = :authorId )
         """)
     Page<BoardListDto> searchBoards(
             @Param("keyword") String keyword,
@@ -186,6 +205,87 @@ public interface BoardRepository extends JpaRepository<Board, Integer> {
     Optional<PriceStatusView> findPriceAndStatus(@Param("id") Integer id);
 
 
+    // ✅ 상세 조회 projection (게시글 + 작성자 + 파일명 + 프로필 파일명을 한 번에)
+    //  - 파일 수만큼 행이 나오고(파일 없으면 1행) 게시글/작성자 컬럼은 반복된다.
+    //  - 프로필은 기존 author.getFiles().get(0) 과 같은 기준(PK 순 첫 파일)으로 MIN(name)
+    public interface BoardDetailRow {
+        Integer getId();
+        String getTitle();
+        String getContent();
+        LocalDateTime getInsertedAt();
+        Integer getPrice();
+        String getCategory();
+        String getTradeCondition();
+        String getTradeType();
+        String getTradeStatus();
+        String getRegionSido();
+        String getRegionSigungu();
+        Integer getViewCount();
+        Integer getLikeCount();
+        Long getAuthorId();
+        String getAuthorEmail();
+        String getAuthorNickName();
+        String getAvatarName();
+        String getFileName();
+    }
+
+    @Query("""
+        SELECT b.id AS id,
+               b.title AS title,
+               b.content AS content,
+               b.insertedAt AS insertedAt,
+               b.price AS price,
+               b.category AS category,
+               b.tradeCondition AS tradeCondition,
+               b.tradeType AS tradeType,
+               b.tradeStatus AS tradeStatus,
+               b.regionSido AS regionSido,
+               b.regionSigungu AS regionSigungu,
+               b.viewCount AS viewCount,
+               b.likeCount AS likeCount,
+               m.id AS authorId,
+               m.email AS authorEmail,
+               m.nickName AS authorNickName,
+               (
+                   SELECT MIN(mf.id.name)
+                   FROM MemberFile mf
+                   WHERE mf.member.id = m.id
+               ) AS avatarName,
+               f.id.name AS fileName
+        FROM Board b
+        JOIN b.author m
+        LEFT JOIN BoardFile f ON f.board.id = b.id
+        WHERE b.id = :id
+        ORDER BY f.id.name
+        """)
+    List<BoardDetailRow> findDetailRows(@Param("id") Integer id);
+
+    // ✅ 좋아요 카운터 (board_like 토글과 같은 트랜잭션에서 ±1, 0 미만 방지)
+    @Modifying
+    @Query("""
+        UPDATE Board b
+        SET b.likeCount = CASE WHEN b.likeCount + :delta < 0 THEN 0 ELSE b.likeCount + :delta END
+        WHERE b.id = :id
+        """)
+    int adjustLikeCount(@Param("id") Integer id, @Param("delta") int delta);
+
+    @Query("SELECT b.likeCount FROM Board b WHERE b.id = :id")
+    Optional<Integer> findLikeCount(@Param("id") Integer id);
+
+    @Query("SELECT MAX(b.id) FROM Board b")
+    Integer findMaxId();
+
+    // ✅ like_count 보정 (id 구간 단위로 실제 board_like 수와 다른 행만 갱신)
+    @Modifying
+    @Transactional
+    @Query(value = """
+        UPDATE board b
+        SET b.like_count = (SELECT COUNT(*) FROM board_like l WHERE l.board_id = b.id)
+        WHERE b.id BETWEEN :fromId AND :toId
+          AND b.like_count <> (SELECT COUNT(*) FROM board_like l WHERE l.board_id = b.id)
+        """, nativeQuery = true)
+    int reconcileLikeCounts(@Param("fromId") Integer fromId, @Param("toId") Integer toId);
+
     // ✅ 거래 상태 업데이트
     @Modifying
     @Transactional
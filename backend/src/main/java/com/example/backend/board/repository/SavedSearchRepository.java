@@ -0,0 +1,16 @@
+package com.example.backend.board.repository;
+
+import com.example.backend.board.entity.SavedSearch;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+
+    List<SavedSearch> findByMemberIdOrderByIdDesc(Long memberId);
+
+    Optional<SavedSearch> findByIdAndMemberId(Long id, Long memberId);
+
+    long countByMemberId(Long memberId);
+}
@@ -44,6 +44,7 @@ public class BoardService {
     private final CommentRepository commentRepository;
     private final S3Client s3Client;
     private final MemberFileRepository memberFileRepository;
+    private final SavedSearchService savedSearchService;
 
     @Value("${image.prefix}")
     private String imagePrefix;
@@ -157,10 +158,12 @@ public class BoardService {
 
         // 카운터 기본값
         board.setViewCount(0);
-        board.setLikeCount(0);
 
         boardRepository.save(board);
         saveFiles(board, dto);
+
+        // 관심 검색 매칭 → 커밋 후 구독자에게 알림
+        savedSearchService.onBoardCreated(board);
     }
 
     // ──────────────────────────────────
@@ -452,7 +455,7 @@ public class BoardService {
     // ──────────────────────────────────
     @Transactional(readOnly = true)
     public Optional<BoardDto> getBoardById(Integer id) {
-        return boardRepository.findById(id).map(this::toDto);
+        return Optional.ofNullable(toDetailDto(boardRepository.findDetailRows(id)));
     }
 
     // ✅ 조회수 증가 전용
@@ -465,9 +468,11 @@ public class BoardService {
     @Transactional
     public BoardDto viewAndGet(Integer id) {
         boardRepository.incrementViewCount(id);
-        Board board = boardRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("게시글이 없습니다."));
-        return toDto(board);
+        BoardDto dto = toDetailDto(boardRepository.findDetailRows(id));
+        if (dto == null) {
+            throw new RuntimeException("게시글이 없습니다.");
+        }
+        return dto;
     }
 
     // ──────────────────────────────────
@@ -517,35 +522,39 @@ public class BoardService {
     // ──────────────────────────────────
     // 엔티티 → DTO 변환
     // ──────────────────────────────────
-    private BoardDto toDto(Board b) {
+    // ✅ 상세 projection 행(파일 수만큼) → DTO. 엔티티/지연로딩 없이 쿼리 1회로 끝난다.
+    private BoardDto toDetailDto(List<BoardRepository.BoardDetailRow> rows) {
+        if (rows.isEmpty()) return null;
+        BoardRepository.BoardDetailRow r = rows.get(0);
+
         BoardDto dto = new BoardDto();
-        dto.setId(b.getId());
-        dto.setTitle(b.getTitle());
-        dto.setContent(b.getContent());
-        dto.setAuthorEmail(b.getAuthor().getEmail());
-        dto.setAuthorNickName(b.getAuthor().getNickName());
-        dto.setInsertedAt(b.getInsertedAt());
-
-        List<String> fileUrls = b.getFiles().stream()
-                .map(f -> imagePrefix + "prj3/board/" + b.getId() + "/" + f.getId().getName())
+        dto.setId(r.getId());
+        dto.setTitle(r.getTitle());
+        dto.setContent(r.getContent());
+        dto.setAuthorEmail(r.getAuthorEmail());
+        dto.setAuthorNickName(r.getAuthorNickName());
+        dto.setInsertedAt(r.getInsertedAt());
+
+        List<String> fileUrls = rows.stream()
+                .map(BoardRepository.BoardDetailRow::getFileName)
+                .filter(Objects::nonNull)
+                .map(name -> imagePrefix + "prj3/board/" + r.getId() + "/" + name)
                 .collect(Collectors.toList());
         dto.setFiles(fileUrls);
 
-        List<MemberFile> memberFiles = b.getAuthor().getFiles();
-        if (memberFiles != null && !memberFiles.isEmpty()) {
-            MemberFile profileFile = memberFiles.get(0);
-            dto.setProfileImageUrl(imagePrefix + "prj3/member/" + b.getAuthor().getId() + "/" + profileFile.getId().getName());
+        if (r.getAvatarName() != null) {
+            dto.setProfileImageUrl(imagePrefix + "prj3/member/" + r.getAuthorId() + "/" + r.getAvatarName());
         }
 
-        dto.setPrice(b.getPrice());
-        dto.setCategory(b.getCategory());
-        dto.setTradeCondition(b.getTradeCondition());
-        dto.setTradeType(b.getTradeType());
-        dto.setTradeStatus(b.getTradeStatus());
-        dto.setRegionSido(b.getRegionSido());
-        dto.setRegionSigungu(b.getRegionSigungu());
-        dto.setViewCount(b.getViewCount());
-        dto.setLikeCount(b.getLikeCount());
+        dto.setPrice(r.getPrice());
+        dto.setCategory(r.getCategory());
+        dto.setTradeCondition(r.getTradeCondition());
+        dto.setTradeType(r.getTradeType());
+        dto.setTradeStatus(r.getTradeStatus());
+        dto.setRegionSido(r.getRegionSido());
+        dto.setRegionSigungu(r.getRegionSigungu());
+        dto.setViewCount(r.getViewCount());
+        dto.setLikeCount(r.getLikeCount());
         return dto;
     }
 
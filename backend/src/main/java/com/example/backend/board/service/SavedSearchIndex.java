@@ -0,0 +1,137 @@
+package com.example.backend.board.service;
+
+import com.example.backend.board.entity.Board;
+import com.example.backend.board.entity.SavedSearch;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 관심 검색 조건 인메모리 인덱스.
+ * - (카테고리, 시도) 를 키로 버킷을 나누고, 조건이 비어 있으면 와일드카드("*") 버킷에 넣는다.
+ * - 새 글 하나에 대해 최대 4개 버킷((c,s) (c,*) (*,s) (*,*))만 보고 나머지 조건을 검사
+ *   → 매칭 비용이 전체 구독 수가 아니라 관련 구독 수에 비례한다.
+ */
+@Component
+public class SavedSearchIndex {
+
+    private static final String ANY = "*";
+
+    /** 인덱스에 올라가는 불변 스냅샷 (정규화된 값) */
+    public record Subscription(
+            Long id,
+            Long memberId,
+            String keyword,        // 소문자
+            String category,       // 소문자
+            String tradeStatus,    // 대문자
+            Integer minPrice,
+            Integer maxPrice,
+            String regionSido,
+            String regionSigungu
+    ) {
+        static Subscription of(SavedSearch s) {
+            return new Subscription(
+                    s.getId(), s.getMemberId(),
+                    lower(s.getKeyword()), lower(s.getCategory()), upper(s.getTradeStatus()),
+                    s.getMinPrice(), s.getMaxPrice(),
+                    trim(s.getRegionSido()), trim(s.getRegionSigungu()));
+        }
+
+        /** searchBoards 와 같은 의미로 조건 검사 (버킷 키 이외의 조건) */
+        boolean matches(Board b, String authorNickName) {
+            if (tradeStatus != null && !tradeStatus.equals(upper(b.getTradeStatus()))) return false;
+            if (minPrice != null && (b.getPrice() == null || b.getPrice() < minPrice)) return false;
+            if (maxPrice != null && (b.getPrice() == null || b.getPrice() > maxPrice)) return false;
+            if (regionSigungu != null && !regionSigungu.equals(trim(b.getRegionSigungu()))) return false;
+            if (keyword != null) {
+                return contains(b.getTitle(), keyword)
+                        || contains(b.getContent(), keyword)
+                        || contains(authorNickName, keyword);
+            }
+            return true;
+        }
+
+        String bucketKey() {
+            return key(category, regionSido);
+        }
+    }
+
+    private final Map<String, Set<Long>> buckets = new ConcurrentHashMap<>();
+    private final Map<Long, Subscription> byId = new ConcurrentHashMap<>();
+
+    public void put(SavedSearch savedSearch) {
+        Subscription sub = Subscription.of(savedSearch);
+        remove(sub.id());
+        byId.put(sub.id(), sub);
+        buckets.computeIfAbsent(sub.bucketKey(), k -> ConcurrentHashMap.newKeySet()).add(sub.id());
+    }
+
+    public void remove(Long savedSearchId) {
+        Subscription old = byId.remove(savedSearchId);
+        if (old == null) return;
+        Set<Long> bucket = buckets.get(old.bucketKey());
+        if (bucket != null) bucket.remove(savedSearchId);
+    }
+
+    public void clear() {
+        byId.clear();
+        buckets.clear();
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    /** 새 글에 매칭되는 구독 목록 (작성자 본인 구독은 제외) */
+    public List<Subscription> match(Board board, Long authorId, String authorNickName) {
+        String category = lower(board.getCategory());
+        String sido = trim(board.getRegionSido());
+
+        List<Subscription> result = new ArrayList<>();
+        for (String key : candidateKeys(category, sido)) {
+            Set<Long> ids = buckets.get(key);
+            if (ids == null) continue;
+            for (Long id : ids) {
+                Subscription sub = byId.get(id);
+                if (sub == null || Objects.equals(sub.memberId(), authorId)) continue;
+                if (sub.matches(board, authorNickName)) result.add(sub);
+            }
+        }
+        return result;
+    }
+
+    private static Collection<String> candidateKeys(String category, String sido) {
+        // 조건이 없는 글은 와일드카드 구독에만 걸린다 (검색에서도 category = :category 는 null 과 매칭되지 않음)
+        Set<String> keys = new LinkedHashSet<>(4);
+        if (category != null && sido != null) keys.add(key(category, sido));
+        if (category != null) keys.add(key(category, null));
+        if (sido != null) keys.add(key(null, sido));
+        keys.add(key(null, null));
+        return keys;
+    }
+
+    private static String key(String category, String sido) {
+        return (category == null ? ANY : category) + '\u0000' + (sido == null ? ANY : sido);
+    }
+
+    private static boolean contains(String text, String lowerKeyword) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(lowerKeyword);
+    }
+
+    private static String trim(String s) {
+        if (s == null) return null;
+        String t = s.trim();
+        return t.isEmpty() ? null : t;
+    }
+
+    private static String lower(String s) {
+        String t = trim(s);
+        return t == null ? null : t.toLowerCase(Locale.ROOT);
+    }
+
+    private static String upper(String s) {
+        String t = trim(s);
+        return t == null ? null : t.toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.backend.board.service;
+
+import com.example.backend.board.dto.SavedSearchAlertDto;
+import com.example.backend.board.dto.SavedSearchDto;
+import com.example.backend.board.dto.SavedSearchForm;
+import com.example.backend.board.entity.Board;
+import com.example.backend.board.entity.SavedSearch;
+import com.example.backend.board.repository.SavedSearchRepository;
+import com.example.backend.common.TxCallbacks;
+import com.example.backend.member.entity.Member;
+import com.example.backend.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class SavedSearchService {
+
+    // 개인 알림 큐 (클라이언트는 /user/queue/saved-search 구독)
+    public static final String ALERT_DESTINATION = "/queue/saved-search";
+
+    private static final int MAX_PER_MEMBER = 20;
+    private static final Set<String> STAT = Set.of("ON_SALE", "RESERVED", "SOLD_OUT");
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final MemberRepository memberRepository;
+    private final SavedSearchIndex savedSearchIndex;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // ✅ 기동 시 전체 구독을 인덱스에 적재 (이후에는 등록/삭제 시 갱신)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadIndex() {
+        savedSearchIndex.clear();
+        savedSearchRepository.findAll().forEach(savedSearchIndex::put);
+        log.info("saved-search index loaded: {} subscriptions", savedSearchIndex.size());
+    }
+
+    // ──────────────────────────────────
+    // 등록 / 목록 / 삭제
+    // ──────────────────────────────────
+    public SavedSearchDto register(SavedSearchForm form, Authentication authentication) {
+        Member member = currentMember(authentication);
+
+        if (savedSearchRepository.countByMemberId(member.getId()) >= MAX_PER_MEMBER) {
+            throw new IllegalArgumentException("관심 검색은 최대 " + MAX_PER_MEMBER + "개까지 등록할 수 있습니다.");
+        }
+
+        String tradeStatus = normalize(form.getTradeStatus());
+        if (tradeStatus != null && !STAT.contains(tradeStatus)) {
+            throw new IllegalArgumentException("tradeStatus 값이 올바르지 않습니다.");
+        }
+        if (form.getMinPrice() != null && form.getMaxPrice() != null && form.getMinPrice() > form.getMaxPrice()) {
+            throw new IllegalArgumentException("최소 가격이 최대 가격보다 클 수 없습니다.");
+        }
+
+        SavedSearch saved = savedSearchRepository.save(SavedSearch.builder()
+                .memberId(member.getId())
+                .keyword(emptyToNull(form.getKeyword()))
+                .category(emptyToNull(form.getCategory()))
+                .tradeStatus(tradeStatus)
+                .minPrice(form.getMinPrice())
+                .maxPrice(form.getMaxPrice())
+                .regionSido(emptyToNull(form.getRegionSido()))
+                .regionSigungu(emptyToNull(form.getRegionSigungu()))
+                .build());
+
+        TxCallbacks.afterCommit(() -> savedSearchIndex.put(saved));
+        return toDto(saved);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SavedSearchDto> list(Authentication authentication) {
+        Member member = currentMember(authentication);
+        return savedSearchRepository.findByMemberIdOrderByIdDesc(member.getId())
+                .stream().map(this::toDto).toList();
+    }
+
+    public void delete(Long id, Authentication authentication) {
+        Member member = currentMember(authentication);
+        SavedSearch savedSearch = savedSearchRepository.findByIdAndMemberId(id, member.getId())
+                .orElseThrow(() -> new RuntimeException("관심 검색을 찾을 수 없습니다."));
+        savedSearchRepository.delete(savedSearch);
+        TxCallbacks.afterCommit(() -> savedSearchIndex.remove(id));
+    }
+
+    // ──────────────────────────────────
+    // 새 글 매칭 (BoardService.add 에서 호출)
+    // ──────────────────────────────────
+    public void onBoardCreated(Board board) {
+        Member author = board.getAuthor();
+        List<SavedSearchIndex.Subscription> matched = savedSearchIndex.match(
+                board,
+                author == null ? null : author.getId(),
+                author == null ? null : author.getNickName());
+        if (matched.isEmpty()) return;
+
+        // 글이 커밋되기 전에 알림이 나가면 상세 조회가 404 가 나므로 커밋 후 전송
+        List<SavedSearchIndex.Subscription> targets = List.copyOf(matched);
+        Integer boardId = board.getId();
+        String title = board.getTitle();
+        Integer price = board.getPrice();
+        String category = board.getCategory();
+        String sido = board.getRegionSido();
+        String sigungu = board.getRegionSigungu();
+
+        TxCallbacks.afterCommit(() -> {
+            for (SavedSearchIndex.Subscription sub : targets) {
+                SavedSearchAlertDto alert = SavedSearchAlertDto.builder()
+                        .savedSearchId(sub.id())
+                        .boardId(boardId)
+                        .title(title)
+                        .price(price)
+                        .category(category)
+                        .regionSido(sido)
+                        .regionSigungu(sigungu)
+                        .build();
+                try {
+                    messagingTemplate.convertAndSendToUser(
+                            String.valueOf(sub.memberId()), ALERT_DESTINATION, alert);
+                } catch (Exception e) {
+                    log.warn("saved-search alert failed: member={}, board={}", sub.memberId(), boardId, e);
+                }
+            }
+        });
+    }
+
+    // ──────────────────────────────────
+    // 유틸
+    // ──────────────────────────────────
+    private Member currentMember(Authentication authentication) {
+        String email = Optional.ofNullable(authentication)
+                .filter(Authentication::isAuthenticated)
+                .map(Authentication::getName)
+                .orElseThrow(() -> new RuntimeException("권한이 없습니다."));
+        return memberRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("회원 정보를 찾을 수 없습니다."));
+    }
+
+    private SavedSearchDto toDto(SavedSearch s) {
+        return SavedSearchDto.builder()
+                .id(s.getId())
+                .keyword(s.getKeyword())
+                .category(s.getCategory())
+                .tradeStatus(s.getTradeStatus())
+                .minPrice(s.getMinPrice())
+                .maxPrice(s.getMaxPrice())
+                .regionSido(s.getRegionSido())
+                .regionSigungu(s.getRegionSigungu())
+                .insertedAt(s.getInsertedAt())
+                .build();
+    }
+
+    private static String emptyToNull(String s) {
+        if (s == null) return null;
+        String t = s.trim();
+        return t.isEmpty() ? null : t;
+    }
+
+    private static String normalize(String s) {
+        String t = emptyToNull(s);
+        return t == null ? null : t.toUpperCase();
+    }
+}
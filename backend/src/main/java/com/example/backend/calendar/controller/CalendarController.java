@@ -1,5 +1,6 @@
 package com.example.backend.calendar.controller;
 
+import com.example.backend.calendar.dto.CalendarDataDTO;
 import com.example.backend.calendar.service.CalendarService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -17,14 +18,19 @@ public class CalendarController {
     private final CalendarService calendarService;
 
     @GetMapping("/data")
-    public ResponseEntity<Map<String, Object>> getCalendarData(
+    public ResponseEntity<?> getCalendarData(
             @RequestParam int year,
             @RequestParam(required = false) Integer month,
             Principal principal) {
 
         String email = principal.getName();
 
-        Map<String, Object> data = calendarService.getCalendarData(email, year, month);
-        return ResponseEntity.ok(data);
+        try {
+            CalendarDataDTO data = calendarService.getCalendarData(email, year, month);
+            return ResponseEntity.ok(data);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message",
+                    Map.of("type", "error", "text", e.getMessage())));
+        }
     }
 }
\ No newline at end of file
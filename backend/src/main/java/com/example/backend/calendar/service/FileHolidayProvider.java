@@ -0,0 +1,47 @@
+package com.example.backend.calendar.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 로컬 JSON 공휴일 ({location}{year}.json, 내용: {"2025-01-01": "신정", ...})
+ * 외부 API 없이 테스트/개발할 때 app.calendar.holiday-source=file 로 사용. 파일이 없으면 공휴일 없음.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.calendar.holiday-source", havingValue = "file")
+public class FileHolidayProvider implements HolidayProvider {
+
+    private static final TypeReference<Map<String, String>> MAP_TYPE = new TypeReference<>() {};
+
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.calendar.holiday-file-location:classpath:holidays/}")
+    private String location;
+
+    @Override
+    public Map<String, String> fetch(int year) {
+        Resource resource = resourceLoader.getResource(location + year + ".json");
+        if (!resource.exists()) {
+            return Map.of();
+        }
+        try (InputStream in = resource.getInputStream()) {
+            return new TreeMap<>(objectMapper.readValue(in, MAP_TYPE));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
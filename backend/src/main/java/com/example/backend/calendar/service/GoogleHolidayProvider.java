@@ -0,0 +1,52 @@
+package com.example.backend.calendar.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.*;
+
+@Component
+@ConditionalOnProperty(name = "app.calendar.holiday-source", havingValue = "google", matchIfMissing = true)
+public class GoogleHolidayProvider implements HolidayProvider {
+
+    private static final String URL_TEMPLATE = "https://www.googleapis.com/calendar/v3/calendars/{calendarId}/events" +
+            "?key={key}&timeMin={timeMin}&timeMax={timeMax}";
+    private static final String CALENDAR_ID = "ko.south_korea#holiday@group.v.calendar.google.com";
+
+    private final RestTemplate restTemplate = new RestTemplate();
+
+    @Value("${google.api.key}")
+    private String googleApiKey;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, String> fetch(int year) {
+        // 템플릿 변수로 넘겨야 calendarId 의 '#', '@' 가 안전하게 인코딩된다
+        Map<String, String> uriVariables = new HashMap<>();
+        uriVariables.put("calendarId", CALENDAR_ID);
+        uriVariables.put("key", googleApiKey);
+        uriVariables.put("timeMin", String.format("%d-01-01T00:00:00Z", year));
+        uriVariables.put("timeMax", String.format("%d-12-31T23:59:59Z", year));
+
+        Map<String, Object> response = restTemplate.getForObject(URL_TEMPLATE, Map.class, uriVariables);
+        if (response == null) {
+            throw new IllegalStateException("공휴일 응답이 비어 있습니다: " + year);
+        }
+
+        Map<String, String> holidays = new TreeMap<>();
+        List<Map<String, Object>> items = (List<Map<String, Object>>) response.get("items");
+        if (items != null) {
+            for (Map<String, Object> item : items) {
+                Map<String, String> start = (Map<String, String>) item.get("start");
+                String date = start == null ? null : start.get("date");
+                // 종일 일정만, 요청 연도만 (경계 시간대 때문에 앞뒤 연도가 섞여 들어옴)
+                if (date != null && date.startsWith(year + "-")) {
+                    holidays.put(date, (String) item.get("summary"));
+                }
+            }
+        }
+        return holidays;
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.backend.calendar.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.Year;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 연도별 공휴일 캐시 (메모리 + 로컬 파일)
+ * - 캘린더 요청마다 외부 API 를 부르지 않고 연도당 한 번만 HolidayProvider 호출
+ * - 받아온 결과는 {cache-dir}/{year}.json 에 저장 → 재기동해도 다시 부르지 않음
+ * - 지난 해는 바뀌지 않으므로 계속 사용, 올해/내년은 대체공휴일 지정 등이 있어 refresh-days 마다 다시 받음
+ * - 호출 실패 시 가지고 있던 값(없으면 빈 값)을 주고 retry-minutes 뒤에 다시 시도
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HolidayCache {
+
+    /** 파일 저장 형식 */
+    record CacheFile(Instant fetchedAt, Map<String, String> holidays) {}
+
+    private record Entry(Map<String, String> holidays, Instant loadedAt, boolean failed) {}
+
+    private final HolidayProvider provider;
+    private final ObjectMapper objectMapper;
+    private final Map<Integer, Entry> memory = new ConcurrentHashMap<>();
+    // 연도별 잠금 (연도는 CalendarService 에서 1~9999 로 검증되므로 무한히 늘지 않음)
+    private final Map<Integer, Object> locks = new ConcurrentHashMap<>();
+
+    @Value("${app.calendar.holiday-cache-dir:data/holidays}")
+    private String cacheDir;
+
+    @Value("${app.calendar.holiday-refresh-days:30}")
+    private int refreshDays;
+
+    @Value("${app.calendar.holiday-retry-minutes:10}")
+    private int retryMinutes;
+
+    /** @return "yyyy-MM-dd" → 공휴일 이름 (날짜순, 수정 불가) */
+    public Map<String, String> get(int year) {
+        Entry entry = memory.get(year);
+        if (entry != null && fresh(year, entry)) return entry.holidays();
+
+        // 같은 연도를 동시에 여러 번 받지 않도록 연도별로 잠금 (다른 연도 요청은 느린 외부 호출을 기다리지 않음)
+        synchronized (locks.computeIfAbsent(year, y -> new Object())) {
+            entry = memory.get(year);
+            if (entry == null) {
+                entry = readFile(year);
+                if (entry != null) memory.put(year, entry);
+            }
+            if (entry != null && fresh(year, entry)) return entry.holidays();
+
+            Entry fetched = fetch(year, entry);
+            memory.put(year, fetched);
+            return fetched.holidays();
+        }
+    }
+
+    private boolean fresh(int year, Entry entry) {
+        Instant now = Instant.now();
+        if (entry.failed()) {
+            return entry.loadedAt().plus(Duration.ofMinutes(retryMinutes)).isAfter(now);
+        }
+        if (year < Year.now().getValue()) return true;
+        return entry.loadedAt().plus(Duration.ofDays(refreshDays)).isAfter(now);
+    }
+
+    private Entry fetch(int year, Entry previous) {
+        try {
+            Map<String, String> holidays = Collections.unmodifiableMap(new TreeMap<>(provider.fetch(year)));
+            Entry entry = new Entry(holidays, Instant.now(), false);
+            writeFile(year, entry);
+            log.info("holidays fetched: year={}, {} days", year, holidays.size());
+            return entry;
+        } catch (Exception e) {
+            log.warn("holiday fetch failed: year={}", year, e);
+            return new Entry(previous == null ? Map.of() : previous.holidays(), Instant.now(), true);
+        }
+    }
+
+    // ──────────────────────────────────
+    // 파일
+    // ──────────────────────────────────
+    private Path fileOf(int year) {
+        return Path.of(cacheDir, year + ".json");
+    }
+
+    private Entry readFile(int year) {
+        Path file = fileOf(year);
+        if (!Files.isRegularFile(file)) return null;
+        try {
+            CacheFile cached = objectMapper.readValue(file.toFile(), CacheFile.class);
+            if (cached.holidays() == null || cached.fetchedAt() == null) return null;
+            return new Entry(Collections.unmodifiableMap(new TreeMap<>(cached.holidays())), cached.fetchedAt(), false);
+        } catch (IOException e) {
+            log.warn("holiday cache file unreadable: {}", file, e);
+            return null;
+        }
+    }
+
+    /** 임시 파일에 쓰고 바꿔치기 (쓰다 죽어도 깨진 파일이 남지 않음) */
+    private void writeFile(int year, Entry entry) {
+        Path file = fileOf(year);
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = Files.createTempFile(file.getParent(), year + "-", ".tmp");
+            objectMapper.writeValue(tmp.toFile(), new CacheFile(entry.loadedAt(), entry.holidays()));
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("holiday cache file write failed: {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.backend.calendar.service;
+
+import java.util.Map;
+
+/**
+ * 공휴일 원천 (HolidayCache 가 연도별로 한 번만 호출)
+ * - app.calendar.holiday-source=google (기본) : Google Calendar 공휴일 캘린더
+ * - app.calendar.holiday-source=file          : 로컬 JSON 파일 (오프라인 테스트용)
+ */
+public interface HolidayProvider {
+
+    /** @return "yyyy-MM-dd" → 공휴일 이름 (실패 시 예외) */
+    Map<String, String> fetch(int year);
+}
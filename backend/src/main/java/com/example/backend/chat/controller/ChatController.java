@@ -6,21 +6,32 @@ import com.example.backend.chat.dto.ChatDtos.ChatMessageDto;
 import com.example.backend.chat.dto.ChatDtos.OpenRoomResponse;
 import com.example.backend.chat.dto.ChatDtos.RoomSummaryDto;
 import com.example.backend.chat.dto.ChatDtos.SendMessageRequest;
+import com.example.backend.chat.service.ChatMessageWriter;
+import com.example.backend.chat.service.ChatFrameFanout;
 import com.example.backend.chat.service.ChatService;
+import com.example.backend.chat.service.PresenceService;
+import com.example.backend.chat.service.RoomMembershipCache;
+import com.example.backend.chat.service.TypingCoalescer;
 import com.example.backend.member.entity.Member;
 import com.example.backend.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.MessagingException;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.security.Principal;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/chat")
@@ -28,7 +39,11 @@ import java.util.List;
 public class ChatController {
 
     private final ChatService chatService;
-    private final SimpMessagingTemplate template;
+    private final ChatMessageWriter chatMessageWriter;
+    private final ChatFrameFanout chatFrameFanout;
+    private final RoomMembershipCache membershipCache;
+    private final PresenceService presenceService;
+    private final TypingCoalescer typingCoalescer;
     private final MemberRepository memberRepository;
 
     /** JWT → memberId */
@@ -39,6 +54,13 @@ public class ChatController {
                 .orElseThrow(() -> new IllegalArgumentException("회원 없음: " + email));
     }
 
+    /** REST 조회도 STOMP 와 같은 참가자 캐시로 확인 (아니면 403) */
+    private void requireMember(Long roomId, Long memberId) {
+        if (!membershipCache.isMember(roomId, memberId)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "채팅방 참가자가 아닙니다.");
+        }
+    }
+
     /** 게시글 기준 방 열기/이동 */
     @PostMapping("/rooms/open")
     public OpenRoomResponse open(@RequestParam Integer boardId,
@@ -54,13 +76,25 @@ public class ChatController {
         return chatService.listMyRooms(me);
     }
 
-    /** 메시지 목록 */
+    /**
+     * 메시지 목록 (본문은 기존과 같은 배열, 페이지 정보는 헤더)
+     * - X-Chat-Has-More        : 요청 방향으로 더 있으면 true → 마지막(after)/첫(before) id 로 이어서 요청
+     * - X-Chat-High-Water-Mark : 방의 마지막 메시지 id (재접속 시 afterId 동기화 종료 기준)
+     */
     @GetMapping("/rooms/{roomId}/messages")
-    public List<ChatMessageDto> list(@PathVariable Long roomId,
-                                     @RequestParam(required=false) Long beforeId,
-                                     @RequestParam(required=false) Long afterId,
-                                     @RequestParam(required=false) Integer limit) {
-        return chatService.listMessages(roomId, beforeId, afterId, limit);
+    public ResponseEntity<List<ChatMessageDto>> list(@PathVariable Long roomId,
+                                                     @RequestParam(required=false) Long beforeId,
+                                                     @RequestParam(required=false) Long afterId,
+                                                     @RequestParam(required=false) Integer limit,
+                                                     @AuthenticationPrincipal Jwt jwt) {
+        requireMember(roomId, toMemberId(jwt));
+        ChatDtos.PageResponse page = chatService.listMessages(roomId, beforeId, afterId, limit);
+        ResponseEntity.BodyBuilder res = ResponseEntity.ok()
+                .header("X-Chat-Has-More", String.valueOf(page.isHasMore()));
+        if (page.getHighWaterMark() != null) {
+            res.header("X-Chat-High-Water-Mark", String.valueOf(page.getHighWaterMark()));
+        }
+        return res.body(page.getItems());
     }
 
     /** 읽음 표시 */
@@ -79,14 +113,55 @@ public class ChatController {
                      Principal principal) {
         if (principal == null) throw new MessagingException("No principal");
         Long senderId = Long.valueOf(principal.getName()); // Principal.getName() == memberId
+        if (!membershipCache.isMember(roomId, senderId)) {
+            throw new MessagingException("채팅방 참가자가 아닙니다.");
+        }
+
+        // 즉시 브로드캐스트(tempId) → 배치 저장 → 커밋 후 /user/queue/chat-ack
+        chatMessageWriter.submit(roomId, senderId, in.getContent(), in.getClientMsgId());
+    }
+
+    /**
+     * STOMP: 입력 중 (키 입력마다 보내도 됨)
+     * - 서버에서 방별로 모아 주기마다 /topic/rooms/{roomId}/typing 으로 최대 1건만 전송
+     * - 참가자 검사는 ChatRoomAuthChannelInterceptor 에서 이미 수행
+     */
+    @MessageMapping("/rooms/{roomId}/typing")
+    public void typing(@DestinationVariable Long roomId, Principal principal) {
+        if (principal == null) throw new MessagingException("No principal");
+        typingCoalescer.typing(roomId, Long.valueOf(principal.getName()));
+    }
+
+    /**
+     * STOMP: compact 인코딩 보낸 사람 사전 (SUBSCRIBE /app/rooms/{roomId}/senders → 이 세션에 1회 응답)
+     * - 받은 뒤 /topic/rooms/{roomId}/compact 를 구독하면 메시지마다 닉네임/프로필 URL 이 반복되지 않는다.
+     */
+    @SubscribeMapping("/rooms/{roomId}/senders")
+    public ChatDtos.SenderDictionary senders(@DestinationVariable Long roomId, Principal principal) {
+        if (principal == null) throw new MessagingException("No principal");
+        if (!membershipCache.isMember(roomId, Long.valueOf(principal.getName()))) {
+            throw new MessagingException("채팅방 참가자가 아닙니다.");
+        }
+        return chatFrameFanout.senderDictionary(roomId);
+    }
 
-        ChatMessageDto out = chatService.saveMessageAsDto(roomId, senderId, in.getContent());
-        template.convertAndSend("/topic/rooms/" + roomId, out);
+    /** 접속 상태 일괄 조회 (?memberIds=1,2,3 → {1:true, 2:false, ...}) */
+    @GetMapping("/presence")
+    public Map<Long, Boolean> presence(@RequestParam List<Long> memberIds) {
+        if (memberIds.size() > 200) {
+            throw new IllegalArgumentException("한 번에 최대 200명까지 조회할 수 있습니다.");
+        }
+        Set<Long> online = presenceService.onlineOf(memberIds);
+        Map<Long, Boolean> result = new LinkedHashMap<>();
+        for (Long id : memberIds) result.put(id, online.contains(id));
+        return result;
     }
 
     /** 방 상세 조회 */
     @GetMapping("/rooms/{roomId}")
-    public ChatDtos.RoomDetailDto getRoomDetail(@PathVariable Long roomId) {
+    public ChatDtos.RoomDetailDto getRoomDetail(@PathVariable Long roomId,
+                                                @AuthenticationPrincipal Jwt jwt) {
+        requireMember(roomId, toMemberId(jwt));
         return chatService.getRoomDetail(roomId);
     }
 
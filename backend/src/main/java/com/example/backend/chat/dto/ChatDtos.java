@@ -5,6 +5,7 @@ import lombok.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 public class ChatDtos {
 
@@ -19,6 +20,7 @@ public class ChatDtos {
     @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
     public static class SendMessageRequest {
         private String content;
+        private String clientMsgId;              // (선택) 클라이언트가 붙인 id → ack 에 그대로 돌려줌
     }
 
     @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
@@ -30,11 +32,51 @@ public class ChatDtos {
         private String senderProfileImageUrl;    // ✅ 보낸 사람 프로필 이미지 URL (추가)
         private String content;
         private LocalDateTime insertedAt;
+        private String tempId;                   // 저장 전 즉시 브로드캐스트용 임시 id (저장 후 ack 로 id 확정)
+        private String clientMsgId;
+    }
+
+    /**
+     * 저장 확정 알림
+     * - 보낸 사람: /user/queue/chat-ack (status SAVED | FAILED)
+     * - 방 전체 : /topic/rooms/{roomId}/ack (tempId → id 매핑)
+     */
+    @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+    public static class ChatAck {
+        private Long roomId;
+        private String tempId;
+        private String clientMsgId;
+        private Long id;
+        private String status;
+        private String error;
+    }
+
+    /**
+     * compact 구독용 보낸 사람 사전 (SUBSCRIBE /app/rooms/{roomId}/senders → @SubscribeMapping 이 그 세션에만 1회 응답)
+     * - 클라이언트는 사전을 받기 전에 온 compact 프레임을 보류했다가 사전 도착 후 처리
+     * - schema  : /topic/rooms/{roomId}/compact 배열 프레임의 위치별 필드명
+     * - senders : memberId → [닉네임, 프로필 이미지 URL]
+     */
+    @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+    public static class SenderDictionary {
+        private Long roomId;
+        private List<String> schema;
+        private Map<Long, List<String>> senders;
+    }
+
+    /** /topic/rooms/{roomId}/typing (방당 주기마다 최대 1건) */
+    @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+    public static class TypingEvent {
+        private Long roomId;
+        private List<Long> memberIds;            // 이번 주기에 입력 중이던 회원
+        private long expiresInMs;                // 이 시간 안에 다음 이벤트가 없으면 표시 해제
     }
 
     @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
     public static class PageResponse {
-        private List<ChatMessageDto> items;
+        private List<ChatMessageDto> items;      // 항상 id 오름차순
+        private boolean hasMore;                 // 요청 방향(after: 최신 쪽 / before·latest: 과거 쪽)에 더 있음
+        private Long highWaterMark;              // 방의 마지막 메시지 id (chat_room.last_message_id)
     }
 
     // ===== 목록 화면용 DTO들 =====
@@ -61,6 +103,7 @@ public class ChatDtos {
 
         private MessageSnippet lastMessage; // r.lastMessage?.content 등
         private Integer unreadCount;
+        private Boolean otherOnline;     // 상대 접속 여부 (PresenceService)
     }
 
     @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
@@ -0,0 +1,48 @@
+// src/main/java/com/example/backend/chat/entity/ChatMessageArchive.java
+package com.example.backend.chat.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지난 chat_message 묶음 (방 + 하루 단위, gzip JSON)
+ * - [firstId, lastId] 구간의 메시지를 원래 id 그대로 담는다 → 페이지 커서(beforeId/afterId)가 그대로 통한다.
+ */
+@Entity
+@Table(name = "chat_message_archive", indexes = {
+        @Index(name = "IDX_cma_room_last_id", columnList = "room_id,last_id")
+})
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class ChatMessageArchive {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    @Column(name = "first_id", nullable = false)
+    private Long firstId;
+
+    @Column(name = "last_id", nullable = false)
+    private Long lastId;
+
+    @Column(name = "message_count", nullable = false)
+    private Integer messageCount;
+
+    @Column(name = "first_at")
+    private LocalDateTime firstAt;
+
+    @Column(name = "last_at")
+    private LocalDateTime lastAt;
+
+    /** gzip(JSON 배열) */
+    @Lob
+    @Column(name = "payload", nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] payload;
+
+    @Column(name = "archived_at", insertable = false, updatable = false)
+    private LocalDateTime archivedAt;
+}
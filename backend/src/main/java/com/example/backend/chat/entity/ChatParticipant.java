@@ -15,6 +15,10 @@ public class ChatParticipant {
     @Column(name = "last_read_message_id")
     private Long lastReadMessageId;
 
+    /** 안 읽은 메시지 수 (상대 메시지 저장 시 +1, markRead 시 재계산) */
+    @Column(name = "unread_count", nullable = false)
+    private int unreadCount;
+
     public ChatParticipant(Long roomId, Long memberId, Long lastReadMessageId) {
         this.id = ChatParticipantId.builder().roomId(roomId).memberId(memberId).build();
         this.lastReadMessageId = lastReadMessageId;
@@ -17,6 +17,10 @@ public class ChatRoom {
     @Column(name = "board_id")
     private Integer boardId; // nullable
 
+    /** 마지막 메시지 id (saveMessage 에서 갱신 → 목록에서 MAX(id) 서브쿼리 불필요) */
+    @Column(name = "last_message_id")
+    private Long lastMessageId;
+
     @CreationTimestamp
     @Column(name = "created_at", insertable = false, updatable = false)
     private LocalDateTime createdAt;
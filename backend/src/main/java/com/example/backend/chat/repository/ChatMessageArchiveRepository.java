@@ -0,0 +1,34 @@
+// src/main/java/com/example/backend/chat/repository/ChatMessageArchiveRepository.java
+package com.example.backend.chat.repository;
+
+import com.example.backend.chat.entity.ChatMessageArchive;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ChatMessageArchiveRepository extends JpaRepository<ChatMessageArchive, Long> {
+
+  // ✅ (room_id, last_id) 인덱스 범위 스캔. 한 방의 묶음끼리는 id 구간이 겹치지 않는다.
+  //  - before: beforeId 보다 앞쪽 구간을 최신 묶음부터
+  //  - after : afterId 보다 뒤쪽 구간을 오래된 묶음부터
+  @Query(value = """
+        SELECT * FROM chat_message_archive
+        WHERE room_id = :roomId AND first_id < :beforeId
+        ORDER BY last_id DESC
+        LIMIT :limit
+    """, nativeQuery = true)
+  List<ChatMessageArchive> findChunksBefore(@Param("roomId") Long roomId,
+                                            @Param("beforeId") Long beforeId,
+                                            @Param("limit") int limit);
+
+  @Query(value = """
+        SELECT * FROM chat_message_archive
+        WHERE room_id = :roomId AND last_id > :afterId
+        ORDER BY last_id ASC
+        LIMIT :limit
+    """, nativeQuery = true)
+  List<ChatMessageArchive> findChunksAfter(@Param("roomId") Long roomId,
+                                           @Param("afterId") Long afterId,
+                                           @Param("limit") int limit);
+}
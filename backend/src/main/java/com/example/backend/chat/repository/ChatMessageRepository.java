@@ -5,29 +5,91 @@ import com.example.backend.chat.entity.ChatMessage;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
 
-  // ✅ 엔티티가 roomId 원시 컬럼만 가질 때
-  List<ChatMessage> findByRoomIdAndIdGreaterThanOrderByIdAsc(Long roomId, Long afterId);
-
+  // ✅ 모든 페이지는 (room_id, id) 인덱스 범위 스캔 + LIMIT, 결과는 항상 id 오름차순
+  //  - after : 재접속 델타 동기화 (id > afterId, 오래된 것부터 limit 건)
+  //  - before: 위로 스크롤 (id < beforeId 중 최신 limit 건을 DB 에서 다시 오름차순 정렬)
+  //  - latest: 첫 진입
+  //  호출 측은 limit+1 건을 요청해서 다음 페이지 유무를 판단한다.
   @Query(value = """
         SELECT * FROM chat_message
-        WHERE room_id = :roomId AND id < :beforeId
-        ORDER BY id DESC
+        WHERE room_id = :roomId AND id > :afterId
+        ORDER BY id ASC
         LIMIT :limit
     """, nativeQuery = true)
-  List<ChatMessage> findTopBefore(@Param("roomId") Long roomId,
-                                  @Param("beforeId") Long beforeId,
+  List<ChatMessage> findPageAfter(@Param("roomId") Long roomId,
+                                  @Param("afterId") Long afterId,
                                   @Param("limit") int limit);
 
+  @Query(value = """
+        SELECT t.* FROM (
+            SELECT * FROM chat_message
+            WHERE room_id = :roomId AND id < :beforeId
+            ORDER BY id DESC
+            LIMIT :limit
+        ) t
+        ORDER BY t.id ASC
+    """, nativeQuery = true)
+  List<ChatMessage> findPageBefore(@Param("roomId") Long roomId,
+                                   @Param("beforeId") Long beforeId,
+                                   @Param("limit") int limit);
+
+  @Query(value = """
+        SELECT t.* FROM (
+            SELECT * FROM chat_message
+            WHERE room_id = :roomId
+            ORDER BY id DESC
+            LIMIT :limit
+        ) t
+        ORDER BY t.id ASC
+    """, nativeQuery = true)
+  List<ChatMessage> findPageLatest(@Param("roomId") Long roomId,
+                                   @Param("limit") int limit);
+
+  // ===== 보관(아카이브) 작업용 =====
+  //  id 는 inserted_at 과 같은 순서로 증가하므로 "cutoff 이후 첫 id" 아래는 모두 보관 대상
+  @Query(value = """
+        SELECT id FROM chat_message
+        WHERE inserted_at >= :cutoff
+        ORDER BY id ASC
+        LIMIT 1
+    """, nativeQuery = true)
+  Long findFirstIdSince(@Param("cutoff") LocalDateTime cutoff);
+
+  @Query(value = "SELECT MAX(id) FROM chat_message", nativeQuery = true)
+  Long findMaxId();
+
+  // 보관 대상이 남은 방 (room_id 키셋)
+  @Query(value = """
+        SELECT DISTINCT room_id FROM chat_message
+        WHERE id < :boundaryId AND room_id > :afterRoomId
+        ORDER BY room_id ASC
+        LIMIT :limit
+    """, nativeQuery = true)
+  List<Long> findRoomIdsBelow(@Param("boundaryId") Long boundaryId,
+                              @Param("afterRoomId") Long afterRoomId,
+                              @Param("limit") int limit);
+
   @Query(value = """
         SELECT * FROM chat_message
-        WHERE room_id = :roomId
-        ORDER BY id DESC
+        WHERE room_id = :roomId AND id < :belowId
+        ORDER BY id ASC
         LIMIT :limit
     """, nativeQuery = true)
-  List<ChatMessage> findTopLatest(@Param("roomId") Long roomId,
-                                  @Param("limit") int limit);
+  List<ChatMessage> findOldestBelow(@Param("roomId") Long roomId,
+                                    @Param("belowId") Long belowId,
+                                    @Param("limit") int limit);
+
+  @Modifying
+  @Query(value = """
+        DELETE FROM chat_message
+        WHERE room_id = :roomId AND id BETWEEN :fromId AND :toId
+    """, nativeQuery = true)
+  int deleteRange(@Param("roomId") Long roomId,
+                  @Param("fromId") Long fromId,
+                  @Param("toId") Long toId);
 }
@@ -4,6 +4,9 @@ package com.example.backend.chat.repository;
 import com.example.backend.chat.entity.ChatParticipant;
 import com.example.backend.chat.entity.ChatParticipantId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,4 +14,59 @@ import java.util.Optional;
 public interface ChatParticipantRepository extends JpaRepository<ChatParticipant, ChatParticipantId> {
   List<ChatParticipant> findById_RoomId(Long roomId);
   Optional<ChatParticipant> findById_RoomIdAndId_MemberId(Long roomId, Long memberId);
+
+  // ✅ 전체 (방, 참가자) 쌍 (기동 시 RoomMembershipCache 선적재용, room_id 순)
+  interface RoomMemberRow {
+    Long getRoomId();
+    Long getMemberId();
+  }
+
+  @Query("SELECT p.id.roomId AS roomId, p.id.memberId AS memberId FROM ChatParticipant p ORDER BY p.id.roomId")
+  List<RoomMemberRow> findAllRoomMembers();
+
+  // ✅ 방 참가자 id 만 (RoomMembershipCache 적재용)
+  @Query("SELECT p.id.memberId FROM ChatParticipant p WHERE p.id.roomId = :roomId")
+  List<Long> findMemberIdsByRoomId(@Param("roomId") Long roomId);
+
+  // ✅ 새 메시지: 보낸 사람 외 참가자 unread +count
+  @Modifying
+  @Query(value = """
+        UPDATE chat_participant
+        SET unread_count = unread_count + :count
+        WHERE room_id = :roomId AND member_id <> :senderId
+    """, nativeQuery = true)
+  int addUnreadForOthers(@Param("roomId") Long roomId,
+                         @Param("senderId") Long senderId,
+                         @Param("count") int count);
+
+  // ✅ 새 메시지: 보낸 사람은 자기 메시지까지 읽은 것으로
+  @Modifying
+  @Query(value = """
+        UPDATE chat_participant
+        SET last_read_message_id = GREATEST(COALESCE(last_read_message_id, 0), :messageId),
+            unread_count = 0
+        WHERE room_id = :roomId AND member_id = :senderId
+    """, nativeQuery = true)
+  int markSenderRead(@Param("roomId") Long roomId,
+                     @Param("senderId") Long senderId,
+                     @Param("messageId") Long messageId);
+
+  // ✅ 읽음: 앞으로만 이동, 남은 unread 는 (room_id, id) 인덱스로 lastRead 이후만 센다
+  @Modifying
+  @Query(value = """
+        UPDATE chat_participant p
+        SET p.last_read_message_id = :lastId,
+            p.unread_count = (
+                SELECT COUNT(*) FROM chat_message m
+                WHERE m.room_id = :roomId
+                  AND m.id > :lastId
+                  AND m.sender_id <> :memberId
+            )
+        WHERE p.room_id = :roomId
+          AND p.member_id = :memberId
+          AND (p.last_read_message_id IS NULL OR p.last_read_message_id < :lastId)
+    """, nativeQuery = true)
+  int markRead(@Param("roomId") Long roomId,
+               @Param("memberId") Long memberId,
+               @Param("lastId") Long lastId);
 }
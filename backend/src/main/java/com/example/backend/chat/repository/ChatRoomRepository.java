@@ -33,6 +33,8 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
                                                       @Param("m2") Long m2);
 
   // ===== 내 채팅방 목록 (미리보기/안읽음 포함) =====
+  //  - unread 는 chat_participant.unread_count, 마지막 메시지는 chat_room.last_message_id (PK 조인)
+  //  - chat_participant (member_id, room_id) 인덱스에서 시작 → 방 수에 비례, 메시지 수와 무관
   @Query(value = """
       SELECT
           r.id                                        AS id,
@@ -46,23 +48,25 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
           lm.inserted_at                              AS lastInsertedAt,
           lm.sender_id                                AS lastSenderId,
           os.nick_name                                AS lastSenderNickName,
-          (
-            SELECT COUNT(*)
-            FROM chat_message cm
-            WHERE cm.room_id = r.id
-              AND cm.sender_id <> :meId
-              AND cm.id > COALESCE(p.last_read_message_id, 0)
-          )                                           AS unreadCount
-      FROM chat_room r
-      JOIN chat_participant p   ON p.room_id = r.id AND p.member_id = :meId
+          p.unread_count                              AS unreadCount
+      FROM chat_participant p
+      JOIN chat_room r          ON r.id = p.room_id
       JOIN chat_participant op  ON op.room_id = r.id AND op.member_id <> :meId
       JOIN member om            ON om.id = op.member_id
       LEFT JOIN board b         ON b.id = r.board_id
-      LEFT JOIN chat_message lm ON lm.id = (SELECT MAX(id) FROM chat_message WHERE room_id = r.id)
+      LEFT JOIN chat_message lm ON lm.id = r.last_message_id
       LEFT JOIN member os       ON os.id = lm.sender_id
+      WHERE p.member_id = :meId
       ORDER BY COALESCE(lm.inserted_at, r.created_at) DESC
       """, nativeQuery = true)
   List<RoomListProjection> listMyRooms(@Param("meId") Long meId);
 
+  // ✅ 마지막 메시지 id 전진 (동시 저장 시에도 큰 값만 남도록)
+  @Modifying
+  @Query(value = """
+        UPDATE chat_room
+        SET last_message_id = :messageId
+        WHERE id = :roomId AND (last_message_id IS NULL OR last_message_id < :messageId)
+    """, nativeQuery = true)
+  int advanceLastMessage(@Param("roomId") Long roomId, @Param("messageId") Long messageId);
 }
-
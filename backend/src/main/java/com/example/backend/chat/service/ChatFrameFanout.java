@@ -0,0 +1,140 @@
+package com.example.backend.chat.service;
+
+import com.example.backend.chat.dto.ChatDtos.ChatMessageDto;
+import com.example.backend.chat.dto.ChatDtos.SenderDictionary;
+import com.example.backend.config.ChatBrokerProperties;
+import com.example.backend.member.service.MemberProfileCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 채팅 메시지 프레임 발행 (JSON / compact 두 가지 인코딩)
+ * - /topic/rooms/{roomId}         : 기존 ChatMessageDto JSON
+ * - /topic/rooms/{roomId}/compact : 위치 기반 배열 [id, tempId, senderId, insertedAtMillis, content, clientMsgId]
+ *   닉네임/프로필 URL 은 SUBSCRIBE /app/rooms/{roomId}/senders 로 구독 시 한 번만 받는다 (senderDictionary).
+ * - simple 브로커에서는 구독 이벤트로 방별 구독자 수를 세서 구독자가 있는 인코딩만 직렬화/발행한다.
+ *   relay 모드는 다른 인스턴스의 구독이 보이지 않으므로 항상 둘 다 발행.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatFrameFanout {
+
+    public static final List<String> COMPACT_SCHEMA =
+            List.of("id", "tempId", "senderId", "insertedAt", "content", "clientMsgId");
+
+    private static final String ROOM_PREFIX = "/topic/rooms/";
+    private static final String COMPACT_SUFFIX = "/compact";
+
+    private final SimpMessagingTemplate template;
+    private final ChatBrokerProperties brokerProperties;
+    private final RoomMembershipCache membershipCache;
+    private final MemberProfileCache profileCache;
+
+    private record Sub(Long roomId, boolean compact) {}
+
+    private static final class Counts {
+        final AtomicInteger json = new AtomicInteger();
+        final AtomicInteger compact = new AtomicInteger();
+
+        AtomicInteger of(boolean compact) {
+            return compact ? this.compact : json;
+        }
+    }
+
+    private final Map<Long, Counts> countsByRoom = new ConcurrentHashMap<>();
+    // sessionId → (subscriptionId → 구독), UNSUBSCRIBE 는 구독 id 만 오므로 따로 기억
+    private final Map<String, Map<String, Sub>> subsBySession = new ConcurrentHashMap<>();
+
+    // ──────────────────────────────────
+    // 발행
+    // ──────────────────────────────────
+    public void publish(Long roomId, ChatMessageDto dto) {
+        boolean relay = brokerProperties.getMode() == ChatBrokerProperties.Mode.RELAY;
+        Counts counts = countsByRoom.get(roomId);
+
+        if (relay || (counts != null && counts.json.get() > 0)) {
+            template.convertAndSend(ROOM_PREFIX + roomId, dto);
+        }
+        if (relay || (counts != null && counts.compact.get() > 0)) {
+            template.convertAndSend(ROOM_PREFIX + roomId + COMPACT_SUFFIX, toCompact(dto));
+        }
+    }
+
+    private static Object[] toCompact(ChatMessageDto dto) {
+        Long millis = dto.getInsertedAt() == null ? null
+                : dto.getInsertedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new Object[]{dto.getId(), dto.getTempId(), dto.getSenderId(), millis,
+                dto.getContent(), dto.getClientMsgId()};
+    }
+
+    /** compact 구독자에게 한 번 보내는 보낸 사람 사전 (방 참가자 전원) */
+    public SenderDictionary senderDictionary(Long roomId) {
+        List<Long> ids = Arrays.stream(membershipCache.members(roomId)).boxed().toList();
+        Map<Long, List<String>> senders = new LinkedHashMap<>();
+        profileCache.getAll(ids).forEach((id, p) -> senders.put(id, Arrays.asList(p.nickName(), p.avatarUrl())));
+        return SenderDictionary.builder()
+                .roomId(roomId)
+                .schema(COMPACT_SCHEMA)
+                .senders(senders)
+                .build();
+    }
+
+    // ──────────────────────────────────
+    // 구독 추적 (인가를 통과한 SUBSCRIBE 만 이벤트가 발생)
+    // ──────────────────────────────────
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Sub sub = parse(accessor.getDestination());
+        if (sub == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) return;
+
+        Sub prev = subsBySession
+                .computeIfAbsent(accessor.getSessionId(), k -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), sub);
+        if (prev != null) release(prev);
+        countsByRoom.computeIfAbsent(sub.roomId(), k -> new Counts()).of(sub.compact()).incrementAndGet();
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, Sub> subs = accessor.getSessionId() == null ? null : subsBySession.get(accessor.getSessionId());
+        if (subs == null || accessor.getSubscriptionId() == null) return;
+        Sub sub = subs.remove(accessor.getSubscriptionId());
+        if (sub != null) release(sub);
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, Sub> subs = subsBySession.remove(event.getSessionId());
+        if (subs != null) subs.values().forEach(this::release);
+    }
+
+    private void release(Sub sub) {
+        countsByRoom.computeIfPresent(sub.roomId(), (k, c) -> {
+            c.of(sub.compact()).updateAndGet(n -> Math.max(0, n - 1));
+            return (c.json.get() == 0 && c.compact.get() == 0) ? null : c;
+        });
+    }
+
+    /** "/topic/rooms/123" → JSON, "/topic/rooms/123/compact" → compact, 그 외 null */
+    private static Sub parse(String destination) {
+        if (destination == null || !destination.startsWith(ROOM_PREFIX)) return null;
+        String rest = destination.substring(ROOM_PREFIX.length());
+        boolean compact = rest.endsWith(COMPACT_SUFFIX);
+        String id = compact ? rest.substring(0, rest.length() - COMPACT_SUFFIX.length()) : rest;
+        if (id.isEmpty() || id.length() > 18 || !id.chars().allMatch(Character::isDigit)) return null;
+        return new Sub(Long.parseLong(id), compact);
+    }
+}
@@ -0,0 +1,229 @@
+package com.example.backend.chat.service;
+
+import com.example.backend.chat.entity.ChatMessage;
+import com.example.backend.chat.entity.ChatMessageArchive;
+import com.example.backend.chat.entity.ChatRoom;
+import com.example.backend.chat.repository.ChatMessageArchiveRepository;
+import com.example.backend.chat.repository.ChatMessageRepository;
+import com.example.backend.chat.repository.ChatRoomRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 채팅 메시지 보관(아카이브).
+ * - 보관 기간이 지난 메시지를 방 + 하루 단위 묶음으로 gzip 해서 chat_message_archive 로 옮기고 원본은 삭제
+ *   → chat_message 는 최근 메시지만 남아 (room_id, id) 페이지 조회가 버퍼 풀 안에서 끝난다.
+ * - 방의 마지막 메시지(chat_room.last_message_id)는 목록 미리보기용으로 항상 남긴다.
+ * - 읽기: ChatService.listMessages 가 본 테이블에서 모자란 만큼 readBefore/readAfter 로 이어 붙인다.
+ * - 묶음 하나 = 트랜잭션 하나 (INSERT 묶음 + DELETE 구간) → 중간에 멈춰도 중복/유실 없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageArchiver {
+
+    private static final int ROOM_BATCH = 200;      // 한 번에 훑는 방 수
+    private static final int READ_BATCH = 1_000;    // 방당 한 번에 읽는 메시지 수
+    private static final int MAX_CHUNK = 500;       // 묶음 하나의 최대 메시지 수
+    private static final int CHUNK_PAGE = 4;        // 읽기 시 한 번에 가져오는 묶음 수
+
+    private static final TypeReference<List<ArchivedMessage>> LIST_TYPE = new TypeReference<>() {};
+
+    /** 묶음 안에 저장되는 메시지 (원래 id 유지) */
+    record ArchivedMessage(Long id, Long senderId, String content, LocalDateTime insertedAt) {}
+
+    private final ChatMessageRepository messageRepo;
+    private final ChatMessageArchiveRepository archiveRepo;
+    private final ChatRoomRepository roomRepo;
+    private final TransactionTemplate tx;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.chat.archive.retention-days:90}")
+    private int retentionDays;
+
+    // ──────────────────────────────────
+    // 보관 작업
+    // ──────────────────────────────────
+    @Scheduled(cron = "${app.chat.archive.cron:0 40 4 * * *}")
+    public void archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        Long boundary = messageRepo.findFirstIdSince(cutoff);
+        if (boundary == null) {
+            Long maxId = messageRepo.findMaxId();
+            if (maxId == null) return;
+            boundary = maxId + 1;
+        }
+
+        int chunks = 0, messages = 0;
+        long afterRoomId = 0;
+        while (true) {
+            List<Long> roomIds = messageRepo.findRoomIdsBelow(boundary, afterRoomId, ROOM_BATCH);
+            if (roomIds.isEmpty()) break;
+            for (Long roomId : roomIds) {
+                try {
+                    int[] r = archiveRoom(roomId, boundary);
+                    chunks += r[0];
+                    messages += r[1];
+                } catch (Exception e) {
+                    log.warn("chat archive failed: room={}", roomId, e);
+                }
+                afterRoomId = roomId;
+            }
+        }
+        if (chunks > 0) {
+            log.info("chat messages archived: {} messages in {} chunks (before id {})", messages, chunks, boundary);
+        }
+    }
+
+    /** @return {묶음 수, 메시지 수} */
+    private int[] archiveRoom(Long roomId, long boundary) {
+        Long lastMessageId = roomRepo.findById(roomId).map(ChatRoom::getLastMessageId).orElse(null);
+        long upper = lastMessageId == null ? boundary : Math.min(boundary, lastMessageId);
+
+        int chunks = 0, messages = 0;
+        while (true) {
+            List<ChatMessage> rows = messageRepo.findOldestBelow(roomId, upper, READ_BATCH);
+            if (rows.isEmpty()) break;
+
+            for (List<ChatMessage> chunk : splitByDay(rows)) {
+                tx.executeWithoutResult(status -> {
+                    archiveRepo.save(toArchive(roomId, chunk));
+                    messageRepo.deleteRange(roomId, chunk.get(0).getId(), chunk.get(chunk.size() - 1).getId());
+                });
+                chunks++;
+                messages += chunk.size();
+            }
+            if (rows.size() < READ_BATCH) break;
+        }
+        return new int[]{chunks, messages};
+    }
+
+    /** 같은 날짜끼리, 최대 MAX_CHUNK 건씩 (입력은 id 오름차순) */
+    private static List<List<ChatMessage>> splitByDay(List<ChatMessage> rows) {
+        List<List<ChatMessage>> result = new ArrayList<>();
+        List<ChatMessage> cur = new ArrayList<>();
+        for (ChatMessage m : rows) {
+            if (!cur.isEmpty() && (cur.size() >= MAX_CHUNK || !sameDay(cur.get(0), m))) {
+                result.add(cur);
+                cur = new ArrayList<>();
+            }
+            cur.add(m);
+        }
+        if (!cur.isEmpty()) result.add(cur);
+        return result;
+    }
+
+    private static boolean sameDay(ChatMessage a, ChatMessage b) {
+        if (a.getInsertedAt() == null || b.getInsertedAt() == null) return true;
+        return a.getInsertedAt().toLocalDate().equals(b.getInsertedAt().toLocalDate());
+    }
+
+    private ChatMessageArchive toArchive(Long roomId, List<ChatMessage> chunk) {
+        List<ArchivedMessage> items = chunk.stream()
+                .map(m -> new ArchivedMessage(m.getId(), m.getSenderId(), m.getContent(), m.getInsertedAt()))
+                .toList();
+        ChatMessage first = chunk.get(0);
+        ChatMessage last = chunk.get(chunk.size() - 1);
+        return ChatMessageArchive.builder()
+                .roomId(roomId)
+                .firstId(first.getId())
+                .lastId(last.getId())
+                .messageCount(chunk.size())
+                .firstAt(first.getInsertedAt())
+                .lastAt(last.getInsertedAt())
+                .payload(encode(items))
+                .build();
+    }
+
+    // ──────────────────────────────────
+    // 읽기 (결과는 id 오름차순, 저장되지 않은 ChatMessage 로 복원)
+    // ──────────────────────────────────
+
+    /** beforeId 보다 앞쪽 메시지 중 최신 need 건 */
+    public List<ChatMessage> readBefore(Long roomId, long beforeId, int need) {
+        Deque<ChatMessage> result = new ArrayDeque<>();
+        long cursor = beforeId;
+        while (result.size() < need) {
+            List<ChatMessageArchive> chunks = archiveRepo.findChunksBefore(roomId, cursor, CHUNK_PAGE);
+            for (ChatMessageArchive chunk : chunks) {
+                List<ChatMessage> msgs = decode(chunk);
+                for (int i = msgs.size() - 1; i >= 0 && result.size() < need; i--) {
+                    if (msgs.get(i).getId() < beforeId) result.addFirst(msgs.get(i));
+                }
+                cursor = chunk.getFirstId();
+                if (result.size() >= need) break;
+            }
+            if (chunks.size() < CHUNK_PAGE) break;
+        }
+        return new ArrayList<>(result);
+    }
+
+    /** afterId 보다 뒤쪽 메시지 중 오래된 need 건 */
+    public List<ChatMessage> readAfter(Long roomId, long afterId, int need) {
+        List<ChatMessage> result = new ArrayList<>();
+        long cursor = afterId;
+        while (result.size() < need) {
+            List<ChatMessageArchive> chunks = archiveRepo.findChunksAfter(roomId, cursor, CHUNK_PAGE);
+            for (ChatMessageArchive chunk : chunks) {
+                for (ChatMessage m : decode(chunk)) {
+                    if (m.getId() > afterId && result.size() < need) result.add(m);
+                }
+                cursor = chunk.getLastId();
+                if (result.size() >= need) break;
+            }
+            if (chunks.size() < CHUNK_PAGE) break;
+        }
+        return result;
+    }
+
+    // ──────────────────────────────────
+    // 인코딩
+    // ──────────────────────────────────
+    private byte[] encode(List<ArchivedMessage> items) {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (GZIPOutputStream gz = new GZIPOutputStream(bos)) {
+            gz.write(objectMapper.writeValueAsBytes(items));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bos.toByteArray();
+    }
+
+    private List<ChatMessage> decode(ChatMessageArchive chunk) {
+        List<ArchivedMessage> items;
+        try (GZIPInputStream gz = new GZIPInputStream(new ByteArrayInputStream(chunk.getPayload()))) {
+            items = objectMapper.readValue(gz.readAllBytes(), LIST_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return items.stream()
+                .filter(Objects::nonNull)
+                .map(a -> ChatMessage.builder()
+                        .id(a.id())
+                        .roomId(chunk.getRoomId())
+                        .senderId(a.senderId())
+                        .content(a.content())
+                        .insertedAt(a.insertedAt())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.backend.chat.service;
+
+import com.example.backend.chat.dto.ChatDtos.ChatAck;
+import com.example.backend.chat.dto.ChatDtos.ChatMessageDto;
+import com.example.backend.chat.entity.ChatMessage;
+import com.example.backend.chat.repository.ChatMessageRepository;
+import com.example.backend.chat.repository.ChatParticipantRepository;
+import com.example.backend.chat.repository.ChatRoomRepository;
+import com.example.backend.member.service.MemberProfileCache;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * STOMP 메시지 쓰기 파이프라인.
+ * 1) submit: 임시 id(tempId)를 붙여 방에 즉시 브로드캐스트하고 유한 큐에 넣는다.
+ *    같은 방은 락 안에서 (큐 적재 → 브로드캐스트) 하므로 브로드캐스트 순서 = 저장 순서.
+ * 2) 단일 writer 스레드가 큐에 쌓인 만큼(최대 maxBatch) 꺼내 한 트랜잭션으로 저장(group commit).
+ *    큐가 FIFO + 소비자 1개라 방별 순서가 유지된다.
+ * 3) 커밋 후에만 보낸 사람에게 /user/queue/chat-ack(SAVED) 를 보내고,
+ *    방에는 /topic/rooms/{roomId}/ack 로 tempId → id 매핑을 알린다.
+ *    배치가 실패하면 한 건씩 다시 저장하고, 그래도 실패한 건은 FAILED 로 알린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageWriter {
+
+    public static final String ACK_DESTINATION = "/queue/chat-ack";
+
+    private final ChatMessageRepository messageRepo;
+    private final ChatRoomRepository roomRepo;
+    private final ChatParticipantRepository participantRepo;
+    private final ChatService chatService;
+    private final MemberProfileCache profileCache;
+    private final SimpMessagingTemplate template;
+    private final ChatFrameFanout fanout;
+    private final TransactionTemplate tx;
+
+    @Value("${app.chat.writer.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.chat.writer.max-batch:200}")
+    private int maxBatch;
+
+    private record Pending(Long roomId, Long senderId, String content, String tempId, String clientMsgId) {}
+
+    // 여러 인스턴스가 같은 방에 브로드캐스트해도 tempId 가 겹치지 않도록 노드 접두어
+    private final String nodeId = Long.toString(ThreadLocalRandom.current().nextLong(36L * 36 * 36 * 36), 36);
+    private final AtomicLong tempSeq = new AtomicLong();
+    private final Object[] roomLocks = new Object[64];
+
+    private BlockingQueue<Pending> queue;
+    private Thread worker;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        for (int i = 0; i < roomLocks.length; i++) roomLocks[i] = new Object();
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        worker = new Thread(this::runLoop, "chat-writer");
+        worker.start();
+    }
+
+    /** 종료 시 큐에 남은 메시지까지 저장하고 멈춘다 */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        worker.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    /** 메시지 접수 → 즉시 브로드캐스트한 임시 DTO 반환 (참가자 검증은 호출 측에서) */
+    public ChatMessageDto submit(Long roomId, Long senderId, String content, String clientMsgId) {
+        if (content == null || content.trim().isEmpty()) {
+            throw new IllegalArgumentException("메시지 내용이 비었습니다.");
+        }
+        if (!running) {
+            throw new IllegalStateException("서버가 종료 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+        String text = content.trim();
+        MemberProfileCache.Profile sender = profileCache.get(senderId);
+
+        synchronized (roomLocks[(int) Math.floorMod(roomId, (long) roomLocks.length)]) {
+            String tempId = nodeId + "-" + tempSeq.incrementAndGet();
+            if (!queue.offer(new Pending(roomId, senderId, text, tempId, clientMsgId))) {
+                throw new IllegalStateException("메시지가 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+            }
+
+            ChatMessageDto dto = ChatMessageDto.builder()
+                    .roomId(roomId)
+                    .senderId(senderId)
+                    .senderNickName(sender.nickName())
+                    .senderProfileImageUrl(sender.avatarUrl())
+                    .content(text)
+                    .insertedAt(LocalDateTime.now())
+                    .tempId(tempId)
+                    .clientMsgId(clientMsgId)
+                    .build();
+            fanout.publish(roomId, dto);
+            return dto;
+        }
+    }
+
+    /* ===================== writer 스레드 ===================== */
+
+    private void runLoop() {
+        List<Pending> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, maxBatch - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                // 종료는 running 플래그로만 제어 → 남은 메시지를 마저 저장
+                log.warn("chat-writer interrupted, draining {} queued messages", queue.size());
+            } catch (Exception e) {
+                log.error("chat-writer loop error", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Pending> batch) {
+        List<Long> ids;
+        try {
+            ids = tx.execute(status -> persist(batch));
+        } catch (Exception e) {
+            // 방 삭제 등으로 한 건이 실패해도 나머지는 살린다
+            log.warn("chat batch persist failed (size={}), retrying one by one", batch.size(), e);
+            ids = new ArrayList<>(batch.size());
+            for (Pending p : batch) {
+                try {
+                    ids.add(chatService.saveMessage(p.roomId(), p.senderId(), p.content()).getId());
+                } catch (Exception ex) {
+                    log.warn("chat message persist failed: room={}, sender={}", p.roomId(), p.senderId(), ex);
+                    ids.add(null);
+                }
+            }
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            ack(batch.get(i), ids.get(i));
+        }
+    }
+
+    /** 한 트랜잭션: 메시지 insert + 방/참가자 카운터 (같은 보낸 사람 연속 구간은 UPDATE 한 번) */
+    private List<Long> persist(List<Pending> batch) {
+        List<Long> ids = new ArrayList<>(batch.size());
+        Map<Long, List<Integer>> indexesByRoom = new LinkedHashMap<>();
+
+        for (int i = 0; i < batch.size(); i++) {
+            Pending p = batch.get(i);
+            ChatMessage saved = messageRepo.save(ChatMessage.builder()
+                    .roomId(p.roomId())
+                    .senderId(p.senderId())
+                    .content(p.content())
+                    .build());
+            ids.add(saved.getId());
+            indexesByRoom.computeIfAbsent(p.roomId(), k -> new ArrayList<>()).add(i);
+        }
+
+        for (Map.Entry<Long, List<Integer>> e : indexesByRoom.entrySet()) {
+            Long roomId = e.getKey();
+            List<Integer> idx = e.getValue();
+
+            int runStart = 0;
+            for (int k = 1; k <= idx.size(); k++) {
+                Long runSender = batch.get(idx.get(runStart)).senderId();
+                if (k < idx.size() && batch.get(idx.get(k)).senderId().equals(runSender)) continue;
+
+                Long runLastId = ids.get(idx.get(k - 1));
+                participantRepo.addUnreadForOthers(roomId, runSender, k - runStart);
+                participantRepo.markSenderRead(roomId, runSender, runLastId);
+                runStart = k;
+            }
+            roomRepo.advanceLastMessage(roomId, ids.get(idx.get(idx.size() - 1)));
+        }
+        return ids;
+    }
+
+    private void ack(Pending p, Long id) {
+        ChatAck ack = ChatAck.builder()
+                .roomId(p.roomId())
+                .tempId(p.tempId())
+                .clientMsgId(p.clientMsgId())
+                .id(id)
+                .status(id != null ? "SAVED" : "FAILED")
+                .error(id != null ? null : "메시지 저장에 실패했습니다.")
+                .build();
+        try {
+            template.convertAndSendToUser(String.valueOf(p.senderId()), ACK_DESTINATION, ack);
+            template.convertAndSend("/topic/rooms/" + p.roomId() + "/ack", ack);
+        } catch (Exception e) {
+            log.warn("chat ack send failed: room={}, tempId={}", p.roomId(), p.tempId(), e);
+        }
+    }
+}
@@ -19,16 +19,23 @@ import com.example.backend.chat.repository.ChatParticipantRepository;
 import com.example.backend.chat.repository.ChatRoomRepository;
 import com.example.backend.member.entity.Member;
 import com.example.backend.member.repository.MemberRepository;
+import com.example.backend.member.service.MemberProfileCache;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -39,6 +46,10 @@ public class ChatService {
     private final ChatMessageRepository messageRepo;
     private final BoardRepository boardRepo;
     private final MemberRepository memberRepo;
+    private final MemberProfileCache profileCache;
+    private final RoomMembershipCache membershipCache;
+    private final PresenceService presenceService;
+    private final ChatMessageArchiver archiver;
 
     @PersistenceContext
     private EntityManager em;
@@ -73,6 +84,7 @@ public class ChatService {
                     .build());
             participantRepo.save(new ChatParticipant(created.getId(), buyerId, null));
             participantRepo.save(new ChatParticipant(created.getId(), sellerId, null));
+            membershipCache.putAfterCommit(created.getId(), buyerId, sellerId);
             return created;
         });
 
@@ -84,37 +96,29 @@ public class ChatService {
                 .build();
     }
 
-    /* ===================== 공통 유틸 ===================== */
-
-    /** memberId로 닉네임 조회(탈퇴회원 방지) */
-    private String nickOf(Long memberId) {
-        return memberRepo.findById(memberId)
-                .map(Member::getNickName)
-                .orElse("탈퇴회원");
-    }
-
-    /** memberId로 대표 아바타 URL 생성 */
-    private String avatarByMemberId(Long memberId) {
-        if (memberId == null) return defaultAvatar;
-        Member m = memberRepo.findById(memberId).orElse(null);
-        return firstMemberAvatar(m);
-    }
-
     /* ===================== 엔티티 → DTO ===================== */
 
-    /** 엔티티 → DTO (닉네임 + 프로필 URL 포함) */
-    private ChatMessageDto toDto(ChatMessage m) {
+    /** 엔티티 → DTO (발신자 닉네임/프로필은 미리 일괄 조회한 맵에서) */
+    private ChatMessageDto toDto(ChatMessage m, Map<Long, MemberProfileCache.Profile> profiles) {
+        MemberProfileCache.Profile sender = profiles.get(m.getSenderId());
         return ChatMessageDto.builder()
                 .id(m.getId())
                 .roomId(m.getRoomId())
                 .senderId(m.getSenderId())
-                .senderNickName(nickOf(m.getSenderId()))
-                .senderProfileImageUrl(avatarByMemberId(m.getSenderId()))
+                .senderNickName(sender != null ? sender.nickName() : MemberProfileCache.WITHDRAWN_NICK)
+                .senderProfileImageUrl(sender != null ? sender.avatarUrl() : defaultAvatar)
                 .content(m.getContent())
                 .insertedAt(m.getInsertedAt())
                 .build();
     }
 
+    /** 발신자들의 프로필을 캐시 → 미스만 IN 쿼리 1회 */
+    private List<ChatMessageDto> toDtos(List<ChatMessage> rows) {
+        Map<Long, MemberProfileCache.Profile> profiles = profileCache.getAll(
+                rows.stream().map(ChatMessage::getSenderId).collect(Collectors.toSet()));
+        return rows.stream().map(m -> toDto(m, profiles)).toList();
+    }
+
     /* ===================== 메시지 ===================== */
 
     /** 메시지 저장 (보낸 사람의 lastRead 갱신까지) */
@@ -123,8 +127,9 @@ public class ChatService {
         if (content == null || content.trim().isEmpty()) {
             throw new IllegalArgumentException("메시지 내용이 비었습니다.");
         }
-        roomRepo.findById(roomId)
-                .orElseThrow(() -> new IllegalArgumentException("채팅방 없음: " + roomId));
+        if (!roomRepo.existsById(roomId)) {
+            throw new IllegalArgumentException("채팅방 없음: " + roomId);
+        }
 
         ChatMessage saved = messageRepo.save(ChatMessage.builder()
                 .roomId(roomId)
@@ -132,43 +137,62 @@ public class ChatService {
                 .content(content.trim())
                 .build());
 
-        ChatParticipantId pid = ChatParticipantId.builder()
-                .roomId(roomId).memberId(senderId).build();
-
-        participantRepo.findById(pid).ifPresent(p -> {
-            Long cur = p.getLastReadMessageId();
-            if (cur == null || saved.getId() > cur) {
-                p.setLastReadMessageId(saved.getId());
-                participantRepo.save(p);
-            }
-        });
+        // 방 목록용 카운터 유지: 마지막 메시지 / 상대 unread +1 / 보낸 사람 읽음 처리
+        roomRepo.advanceLastMessage(roomId, saved.getId());
+        participantRepo.addUnreadForOthers(roomId, senderId, 1);
+        participantRepo.markSenderRead(roomId, senderId, saved.getId());
 
         return saved;
     }
 
-    /** 메시지 저장 후 DTO로 반환 (브로드캐스트 용) */
-    @Transactional
-    public ChatMessageDto saveMessageAsDto(Long roomId, Long senderId, String content) {
-        return toDto(saveMessage(roomId, senderId, content));
-    }
-
-    /** 메시지 목록 조회 (DTO, 프로필 URL 포함) */
+    /**
+     * 메시지 페이지 조회 (DTO, 프로필 URL 포함)
+     * - afterId 가 있으면 그 이후 limit 건(재접속 델타), beforeId 면 그 이전 limit 건, 둘 다 없으면 최신 limit 건
+     * - 어느 방향이든 limit 으로 잘리고 hasMore 로 이어받는다 → 오래 끊겼던 클라이언트도 O(page)
+     */
     @Transactional
-    public List<ChatMessageDto> listMessages(Long roomId, Long beforeId, Long afterId, Integer limit) {
+    public ChatDtos.PageResponse listMessages(Long roomId, Long beforeId, Long afterId, Integer limit) {
         int lim = (limit == null || limit <= 0 || limit > 100) ? 50 : limit;
 
+        // 본 테이블에서 모자라면 보관 묶음(chat_message_archive)에서 이어 붙인다 (보관분 id < 본 테이블 id)
         List<ChatMessage> rows;
         if (afterId != null) {
-            rows = messageRepo.findByRoomIdAndIdGreaterThanOrderByIdAsc(roomId, afterId);
-        } else if (beforeId != null) {
-            rows = messageRepo.findTopBefore(roomId, beforeId, lim);
-            rows.sort(Comparator.comparingLong(ChatMessage::getId));
+            rows = new ArrayList<>(archiver.readAfter(roomId, afterId, lim + 1));
+            if (rows.size() <= lim) {
+                long from = rows.isEmpty() ? afterId : Math.max(afterId, rows.get(rows.size() - 1).getId());
+                rows.addAll(messageRepo.findPageAfter(roomId, from, lim + 1 - rows.size()));
+            }
         } else {
-            rows = messageRepo.findTopLatest(roomId, lim);
-            rows.sort(Comparator.comparingLong(ChatMessage::getId));
+            rows = (beforeId != null)
+                    ? messageRepo.findPageBefore(roomId, beforeId, lim + 1)
+                    : messageRepo.findPageLatest(roomId, lim + 1);
+            if (rows.size() <= lim) {
+                long before = !rows.isEmpty() ? rows.get(0).getId()
+                        : (beforeId != null ? beforeId : Long.MAX_VALUE);
+                List<ChatMessage> older = archiver.readBefore(roomId, before, lim + 1 - rows.size());
+                if (!older.isEmpty()) {
+                    List<ChatMessage> merged = new ArrayList<>(older);
+                    merged.addAll(rows);
+                    rows = merged;
+                }
+            }
         }
 
-        return rows.stream().map(this::toDto).toList();
+        boolean hasMore = rows.size() > lim;
+        if (hasMore) {
+            // after 는 뒤(최신)쪽, before/latest 는 앞(과거)쪽 한 건이 초과분
+            rows = (afterId != null) ? rows.subList(0, lim) : rows.subList(1, rows.size());
+        }
+
+        Long highWaterMark = roomRepo.findById(roomId)
+                .map(ChatRoom::getLastMessageId)
+                .orElse(null);
+
+        return ChatDtos.PageResponse.builder()
+                .items(toDtos(rows))
+                .hasMore(hasMore)
+                .highWaterMark(highWaterMark)
+                .build();
     }
 
     /** 읽음 표시 */
@@ -176,17 +200,12 @@ public class ChatService {
     public void markRead(Long roomId, Long memberId, Long lastMessageId) {
         if (lastMessageId == null) return;
 
-        ChatParticipantId pid = ChatParticipantId.builder()
-                .roomId(roomId).memberId(memberId).build();
-
-        ChatParticipant p = participantRepo.findById(pid)
-                .orElseGet(() -> participantRepo.save(new ChatParticipant(roomId, memberId, null)));
-
-        Long cur = p.getLastReadMessageId();
-        if (cur == null || lastMessageId > cur) {
-            p.setLastReadMessageId(lastMessageId);
-            participantRepo.save(p);
+        // 참가자가 아니면 거절 (여기서 참가자 행을 만들지 않음 → 읽음 표시로 방에 들어갈 수 없음)
+        if (!membershipCache.isMember(roomId, memberId)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "채팅방 참가자가 아닙니다.");
         }
+        // lastRead 는 앞으로만 이동하고 unread 는 그 이후 상대 메시지 수로 재계산
+        participantRepo.markRead(roomId, memberId, lastMessageId);
     }
 
     /* ===================== 방 목록/상세 ===================== */
@@ -195,6 +214,11 @@ public class ChatService {
     @Transactional
     public List<RoomSummaryDto> listMyRooms(Long meId) {
         List<RoomListProjection> rows = roomRepo.listMyRooms(meId);
+        Map<Long, MemberProfileCache.Profile> profiles = profileCache.getAll(
+                rows.stream().map(RoomListProjection::getLastSenderId)
+                        .filter(Objects::nonNull).collect(Collectors.toSet()));
+        Set<Long> online = presenceService.onlineOf(
+                rows.stream().map(RoomListProjection::getOtherMemberId).toList());
         return rows.stream().map(p -> {
             MessageSnippet snippet = null;
             if (p.getLastMessageId() != null) {
@@ -204,7 +228,9 @@ public class ChatService {
                         .insertedAt(p.getLastInsertedAt() == null ? null : p.getLastInsertedAt().toLocalDateTime())
                         .senderId(p.getLastSenderId())
                         .senderNickName(p.getLastSenderNickName())
-                        .senderProfileImageUrl(avatarByMemberId(p.getLastSenderId()))
+                        .senderProfileImageUrl(Optional.ofNullable(profiles.get(p.getLastSenderId()))
+                                .map(MemberProfileCache.Profile::avatarUrl)
+                                .orElse(defaultAvatar))
                         .build();
             }
 
@@ -217,6 +243,7 @@ public class ChatService {
                     .otherEmail(p.getOtherEmail())
                     .lastMessage(snippet)
                     .unreadCount(p.getUnreadCount() == null ? 0 : p.getUnreadCount())
+                    .otherOnline(online.contains(p.getOtherMemberId()))
                     .build();
         }).toList();
     }
@@ -293,6 +320,10 @@ public class ChatService {
                 .orElseThrow(() -> new IllegalArgumentException("채팅방 없음: " + roomId));
 
         // 자식부터 삭제 (벌크 HQL)
+        em.createQuery("delete from ChatMessageArchive a where a.roomId = :rid")
+                .setParameter("rid", roomId)
+                .executeUpdate();
+
         em.createQuery("delete from ChatMessage m where m.roomId = :rid")
                 .setParameter("rid", roomId)
                 .executeUpdate();
@@ -304,6 +335,8 @@ public class ChatService {
         em.createQuery("delete from ChatRoom r where r.id = :rid")
                 .setParameter("rid", roomId)
                 .executeUpdate();
+
+        membershipCache.invalidate(roomId);
     }
 
     /* ===================== 파일 URL 생성 ===================== */
@@ -0,0 +1,47 @@
+package com.example.backend.chat.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 접속 상태 (STOMP CONNECT / DISCONNECT 기준, WebSocketAuthChannelInterceptor 에서 호출)
+ * - 한 회원이 탭을 여러 개 열 수 있으므로 세션 수로 센다.
+ * - DISCONNECT 는 클라이언트 프레임 + 소켓 종료 시 두 번 올 수 있어 sessionId 기준으로 한 번만 반영.
+ * - 인스턴스 로컬 상태 (relay 모드의 다중 인스턴스에서는 해당 인스턴스에 붙은 세션만 보임)
+ */
+@Component
+public class PresenceService {
+
+    private final Map<String, Long> memberBySession = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> sessionCounts = new ConcurrentHashMap<>();
+
+    public void connected(String sessionId, Long memberId) {
+        if (sessionId == null || memberId == null) return;
+        if (memberBySession.putIfAbsent(sessionId, memberId) == null) {
+            sessionCounts.merge(memberId, 1, Integer::sum);
+        }
+    }
+
+    public void disconnected(String sessionId) {
+        if (sessionId == null) return;
+        Long memberId = memberBySession.remove(sessionId);
+        if (memberId != null) {
+            sessionCounts.computeIfPresent(memberId, (k, n) -> n <= 1 ? null : n - 1);
+        }
+    }
+
+    public boolean isOnline(Long memberId) {
+        return memberId != null && sessionCounts.containsKey(memberId);
+    }
+
+    /** 일괄 조회: 요청한 id 중 접속 중인 것만 */
+    public Set<Long> onlineOf(Collection<Long> memberIds) {
+        Set<Long> online = new HashSet<>();
+        for (Long id : memberIds) {
+            if (isOnline(id)) online.add(id);
+        }
+        return online;
+    }
+}
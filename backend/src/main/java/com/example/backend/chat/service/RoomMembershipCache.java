@@ -0,0 +1,119 @@
+package com.example.backend.chat.service;
+
+import com.example.backend.chat.repository.ChatParticipantRepository;
+import com.example.backend.common.TxCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * roomId → 참가자 memberId 집합 (정렬된 long[]).
+ * - 기동 시 chat_participant 전체를 선적재, 새 방은 커밋 후 write-through
+ * - 1:1 채팅이라 방당 원소가 2개 남짓 → 박싱 없는 배열 + 이진 탐색이면 충분
+ * - 미스 시 chat_participant 에서 한 번 읽어 캐시 (다른 인스턴스에서 만든 방 등). DB 조회는 맵 잠금 밖에서 한다
+ * - 참가자가 없는 방은 짧게(MISS_TTL) 음수 캐시, 최근 MAX_MISSES 개까지만 → 임의 roomId 반복 요청이 DB 로 가지 않음
+ * - 참가자가 바뀌는 경로(방 생성, 방 삭제)에서 invalidate, 적재 중에 invalidate 되면 적재 결과는 넣지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomMembershipCache {
+
+    private static final long[] EMPTY = new long[0];
+    private static final int MAX_MISSES = 1_000;
+    private static final long MISS_TTL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final ChatParticipantRepository participantRepo;
+    private final Map<Long, long[]> members = new ConcurrentHashMap<>();
+    // roomId → 음수 캐시 만료 시각(nanoTime), 오래된 것부터 밀어냄
+    private final Map<Long, Long> misses = Collections.synchronizedMap(
+            new LinkedHashMap<>(64, 0.75f, false) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                    return size() > MAX_MISSES;
+                }
+            });
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /** 기동 시 전체 선적재 → 이후 프레임 인가는 DB 없이 처리 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        Map<Long, List<Long>> byRoom = new HashMap<>();
+        for (ChatParticipantRepository.RoomMemberRow row : participantRepo.findAllRoomMembers()) {
+            byRoom.computeIfAbsent(row.getRoomId(), k -> new ArrayList<>(2)).add(row.getMemberId());
+        }
+        byRoom.forEach((roomId, ids) -> put(roomId, ids.stream().mapToLong(Long::longValue).toArray()));
+        log.info("room membership cache preloaded: {} rooms", byRoom.size());
+    }
+
+    public boolean isMember(Long roomId, Long memberId) {
+        if (roomId == null || memberId == null) return false;
+        return Arrays.binarySearch(lookup(roomId), memberId) >= 0;
+    }
+
+    /** 방 참가자 id (정렬됨, 호출 측에서 수정 금지) */
+    public long[] members(Long roomId) {
+        if (roomId == null) return EMPTY;
+        return lookup(roomId);
+    }
+
+    // computeIfAbsent 로 읽으면 DB 조회 동안 해시 bin 잠금을 잡으므로 읽기 → putIfAbsent
+    private long[] lookup(Long roomId) {
+        long[] ids = members.get(roomId);
+        if (ids != null) return ids;
+
+        Long until = misses.get(roomId);
+        if (until != null && System.nanoTime() - until < 0) return EMPTY;
+
+        long seen = invalidations.get();
+        ids = load(roomId);
+        if (seen != invalidations.get()) return ids;
+        if (ids.length == 0) {
+            misses.put(roomId, System.nanoTime() + MISS_TTL_NANOS);
+            return EMPTY;
+        }
+        long[] prev = members.putIfAbsent(roomId, ids);
+        return prev != null ? prev : ids;
+    }
+
+    public void put(Long roomId, long[] memberIds) {
+        long[] copy = memberIds.clone();
+        Arrays.sort(copy);
+        members.put(roomId, copy);
+        misses.remove(roomId);
+    }
+
+    /** 새 방: 커밋 후 바로 채워 둔다 (첫 SEND/SUBSCRIBE 도 DB 조회 없음) */
+    public void putAfterCommit(Long roomId, long... memberIds) {
+        invalidate(roomId);
+        TxCallbacks.afterCommit(() -> put(roomId, memberIds));
+    }
+
+    /** 지금 비우고, 트랜잭션 중이면 완료 후 한 번 더 (커밋 전에 다시 읽힌 값 제거) */
+    public void invalidate(Long roomId) {
+        if (roomId == null) return;
+        invalidations.incrementAndGet();
+        members.remove(roomId);
+        misses.remove(roomId);
+        TxCallbacks.afterCompletion(committed -> {
+            invalidations.incrementAndGet();
+            members.remove(roomId);
+            misses.remove(roomId);
+        });
+    }
+
+    private long[] load(Long roomId) {
+        long[] ids = participantRepo.findMemberIdsByRoomId(roomId).stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+        return ids;
+    }
+}
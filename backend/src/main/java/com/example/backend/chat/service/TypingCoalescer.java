@@ -0,0 +1,45 @@
+package com.example.backend.chat.service;
+
+import com.example.backend.chat.dto.ChatDtos.TypingEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 입력 중 표시 합치기.
+ * - 키 입력마다 오는 typing 이벤트는 방별 집합에만 기록
+ * - flush 주기마다 방당 최대 1 프레임(/topic/rooms/{roomId}/typing)으로 모아서 전송
+ * - 클라이언트는 다음 프레임이 expiresInMs 안에 안 오면 표시를 끈다
+ */
+@Component
+@RequiredArgsConstructor
+public class TypingCoalescer {
+
+    static final long FLUSH_MS = 1_000;
+
+    private final SimpMessagingTemplate template;
+    private final Map<Long, Set<Long>> typingByRoom = new ConcurrentHashMap<>();
+
+    public void typing(Long roomId, Long memberId) {
+        typingByRoom.computeIfAbsent(roomId, k -> ConcurrentHashMap.newKeySet()).add(memberId);
+    }
+
+    @Scheduled(fixedDelay = FLUSH_MS)
+    public void flush() {
+        for (Long roomId : new ArrayList<>(typingByRoom.keySet())) {
+            Set<Long> typers = typingByRoom.remove(roomId);
+            if (typers == null || typers.isEmpty()) continue;
+            template.convertAndSend("/topic/rooms/" + roomId + "/typing", TypingEvent.builder()
+                    .roomId(roomId)
+                    .memberIds(new ArrayList<>(typers))
+                    .expiresInMs(FLUSH_MS * 3)
+                    .build());
+        }
+    }
+}
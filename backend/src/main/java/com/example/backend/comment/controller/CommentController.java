@@ -1,6 +1,7 @@
 package com.example.backend.comment.controller;
 
 import com.example.backend.comment.dto.CommentForm;
+import com.example.backend.comment.dto.ReplyCommentForm;
 import com.example.backend.comment.entity.Comment;
 import com.example.backend.comment.service.CommentService;
 import com.example.backend.comment.dto.CommentDto;
@@ -40,12 +41,40 @@ public class CommentController {
 
     }
 
-    // 목록
+    // 목록 (cursor = 이전 페이지의 nextCursor, 없으면 처음부터)
     @GetMapping("/list")
-    public ResponseEntity<?> list(@RequestParam Integer boardId) {
-        List<CommentDto> commentDto = commentService.findByBoardId(boardId);
+    public ResponseEntity<?> list(@RequestParam Integer boardId,
+                                  @RequestParam(required = false) Integer cursor,
+                                  @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(commentService.findPageByBoardId(boardId, cursor, size));
+    }
 
-        return ResponseEntity.ok(Map.of("comments", commentDto));
+    // 답글 추가
+    @PostMapping("/reply")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> addReply(@RequestBody ReplyCommentForm form,
+                                      Authentication authentication) {
+        try {
+            commentService.addReply(form, authentication);
+            return ResponseEntity.ok(Map.of("message", Map.of("type", "success", "text", "답글이 등록되었습니다.")));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("message", Map.of("type", "error", "text", e.getMessage())));
+        }
+    }
+
+    // 답글 삭제
+    @DeleteMapping("/reply/{id}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> deleteReply(@PathVariable Integer id,
+                                         Authentication authentication) {
+        try {
+            commentService.deleteReply(id, authentication);
+            return ResponseEntity.ok(Map.of("message", Map.of("type", "success", "text", "답글이 삭제되었습니다.")));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("message", Map.of("type", "error", "text", e.getMessage())));
+        }
     }
 
 
@@ -10,6 +10,7 @@ import java.time.ZonedDateTime;
 
 
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 @Data
 @NoArgsConstructor
@@ -21,4 +22,5 @@ public class CommentDto {
     private String authorEmail;  // 추가
     private String insertedAt;
     private String profileImageUrl;
+    private List<ReplyCommentDto> replies;
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.example.backend.comment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplyCommentDto {
+    private Integer id;
+    private Integer commentId;
+    private String reply;
+    private String authorNickName;
+    private String authorEmail;
+    private String insertedAt;
+    private String profileImageUrl;
+}
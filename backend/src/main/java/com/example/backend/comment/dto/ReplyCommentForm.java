@@ -0,0 +1,9 @@
+package com.example.backend.comment.dto;
+
+import lombok.Data;
+
+@Data
+public class ReplyCommentForm {
+    private Integer commentId;
+    private String reply;
+}
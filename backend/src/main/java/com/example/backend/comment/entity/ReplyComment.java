@@ -0,0 +1,33 @@
+package com.example.backend.comment.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 댓글의 답글 (reply_comment.author 는 member.email FK)
+@Table(name = "reply_comment")
+@Entity
+@NoArgsConstructor
+@Getter
+@Setter
+public class ReplyComment {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    // 목록 조회 시 Comment 를 다시 읽지 않도록 FK 값만 매핑
+    @Column(name = "comment_id", nullable = false)
+    private Integer commentId;
+
+    @Column(name = "author", nullable = false)
+    private String author;
+
+    @Column(name = "reply_comment", nullable = false, length = 2000)
+    private String replyComment;
+
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime insertedAt;
+}
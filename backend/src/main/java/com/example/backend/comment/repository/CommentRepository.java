@@ -2,11 +2,14 @@ package com.example.backend.comment.repository;
 
 import com.example.backend.comment.entity.Comment;
 import com.example.backend.member.entity.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Integer> {
@@ -21,4 +24,36 @@ public interface CommentRepository extends JpaRepository<Comment, Integer> {
     void deleteByAuthor(Member author);
 
     List<Comment> findByBoardId(Integer boardId);
-}
\ No newline at end of file
+
+    // 게시글 댓글 수 (목록 첫 페이지의 total, board_id 인덱스만 읽음)
+    long countByBoardId(Integer boardId);
+
+    // ✅ 댓글 목록 projection (id 기준 keyset)
+    //  - Comment 엔티티를 올리면 EAGER 인 board 까지 읽으므로 필요한 컬럼만 조회
+    //  - comment.board_id 보조 인덱스는 (board_id, id) 순서라 범위 스캔 + LIMIT 로 끝난다
+    interface CommentRow {
+        Integer getId();
+        String getComment();
+        LocalDateTime getInsertedAt();
+        Long getAuthorId();
+        String getAuthorEmail();
+        String getAuthorNickName();
+    }
+
+    @Query("""
+        SELECT c.id AS id,
+               c.comment AS comment,
+               c.insertedAt AS insertedAt,
+               m.id AS authorId,
+               m.email AS authorEmail,
+               m.nickName AS authorNickName
+        FROM Comment c
+        JOIN c.author m
+        WHERE c.board.id = :boardId
+          AND c.id > :cursor
+        ORDER BY c.id ASC
+        """)
+    List<CommentRow> findPageByBoardId(@Param("boardId") Integer boardId,
+                                       @Param("cursor") Integer cursor,
+                                       Pageable pageable);
+}
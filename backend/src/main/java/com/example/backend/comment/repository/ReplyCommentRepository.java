@@ -0,0 +1,13 @@
+package com.example.backend.comment.repository;
+
+import com.example.backend.comment.entity.ReplyComment;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ReplyCommentRepository extends JpaRepository<ReplyComment, Integer> {
+
+    // 한 페이지 댓글들의 답글을 IN 한 번으로
+    List<ReplyComment> findByCommentIdInOrderByIdAsc(Collection<Integer> commentIds);
+}
@@ -3,22 +3,27 @@ package com.example.backend.comment.service;
 import com.example.backend.board.entity.Board;
 import com.example.backend.board.repository.BoardRepository;
 import com.example.backend.comment.dto.CommentForm;
+import com.example.backend.comment.dto.ReplyCommentDto;
+import com.example.backend.comment.dto.ReplyCommentForm;
 import com.example.backend.comment.entity.Comment;
+import com.example.backend.comment.entity.ReplyComment;
 import com.example.backend.comment.repository.CommentRepository;
 import com.example.backend.comment.dto.CommentDto;
+import com.example.backend.comment.repository.ReplyCommentRepository;
 import com.example.backend.member.entity.Member;
-import com.example.backend.member.entity.MemberFile;
+import com.example.backend.member.repository.MemberFileRepository;
 import com.example.backend.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Transactional
@@ -29,6 +34,13 @@ public class CommentService {
     private final BoardRepository boardRepository;
     private final MemberRepository memberRepository;
     private final CommentRepository commentRepository;
+    private final ReplyCommentRepository replyCommentRepository;
+    private final MemberFileRepository memberFileRepository;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter INSERTED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
     @Value("${image.prefix}")
     private String imagePrefix;
@@ -52,31 +64,126 @@ public class CommentService {
         commentRepository.save(comment);
     }
 
-    public List<CommentDto> findByBoardId(Integer boardId) {
-        return commentRepository.findByBoardId(boardId).stream().map(comment -> {
+    // ──────────────────────────────────
+    // 목록 (keyset: id > cursor, 오래된 순)
+    //  - 댓글 1회 + 답글 1회(IN) + 답글 작성자 1회(IN) + 프로필 1회(IN)
+    // ──────────────────────────────────
+    @Transactional(readOnly = true)
+    public Map<String, Object> findPageByBoardId(Integer boardId, Integer cursor, Integer size) {
+        int pageSize = Math.min(MAX_PAGE_SIZE, Math.max(1, Optional.ofNullable(size).orElse(DEFAULT_PAGE_SIZE)));
+        int after = Math.max(0, Optional.ofNullable(cursor).orElse(0));
+
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        List<CommentRepository.CommentRow> rows =
+                commentRepository.findPageByBoardId(boardId, after, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) rows = rows.subList(0, pageSize);
+
+        List<Integer> commentIds = rows.stream().map(CommentRepository.CommentRow::getId).toList();
+        Map<Integer, List<ReplyComment>> repliesByComment = commentIds.isEmpty()
+                ? Map.of()
+                : replyCommentRepository.findByCommentIdInOrderByIdAsc(commentIds).stream()
+                .collect(Collectors.groupingBy(ReplyComment::getCommentId, LinkedHashMap::new, Collectors.toList()));
+
+        // 답글 작성자(email) → 회원
+        Set<String> replyEmails = repliesByComment.values().stream()
+                .flatMap(List::stream)
+                .map(ReplyComment::getAuthor)
+                .collect(Collectors.toSet());
+        Map<String, Member> replyAuthors = replyEmails.isEmpty()
+                ? Map.of()
+                : memberRepository.findAllByEmailIn(replyEmails).stream()
+                .collect(Collectors.toMap(Member::getEmail, m -> m, (a, b) -> a));
+
+        // 댓글 + 답글 작성자 프로필을 한 번에
+        Set<Long> memberIds = new HashSet<>();
+        rows.forEach(r -> memberIds.add(r.getAuthorId()));
+        replyAuthors.values().forEach(m -> memberIds.add(m.getId()));
+        Map<Long, String> avatarNames = memberIds.isEmpty()
+                ? Map.of()
+                : memberFileRepository.findFirstNamesByMemberIdIn(memberIds).stream()
+                .collect(Collectors.toMap(MemberFileRepository.AvatarView::getMemberId,
+                        MemberFileRepository.AvatarView::getName, (a, b) -> a));
+
+        List<CommentDto> comments = new ArrayList<>(rows.size());
+        for (CommentRepository.CommentRow r : rows) {
             CommentDto dto = new CommentDto();
-            dto.setId(comment.getId());
-            dto.setComment(comment.getComment());
-            dto.setAuthorNickName(comment.getAuthor().getNickName());
-            dto.setAuthorEmail(comment.getAuthor().getEmail());
-
-            if (comment.getInsertedAt() != null) {
-                ZonedDateTime seoulTime = comment.getInsertedAt()
-                        .atZone(ZoneId.systemDefault()) // 또는 UTC
-                        .withZoneSameInstant(ZoneId.of("Asia/Seoul"));
-                dto.setInsertedAt(seoulTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
-            }
-
-            // ✅ DTO 생성 후 profileImageUrl을 채워주는 로직
-            List<MemberFile> memberFiles = comment.getAuthor().getFiles();
-            if (memberFiles != null && !memberFiles.isEmpty()) {
-                MemberFile profileFile = memberFiles.get(0);
-                dto.setProfileImageUrl(imagePrefix + "prj3/member/" + comment.getAuthor().getId() + "/" + profileFile.getId().getName());
-            } else {
-                dto.setProfileImageUrl(null); // 또는 기본 이미지 URL
-            }
-            return dto;
-        }).collect(Collectors.toList());
+            dto.setId(r.getId());
+            dto.setComment(r.getComment());
+            dto.setAuthorNickName(r.getAuthorNickName());
+            dto.setAuthorEmail(r.getAuthorEmail());
+            dto.setInsertedAt(formatSeoul(r.getInsertedAt()));
+            dto.setProfileImageUrl(avatarUrl(r.getAuthorId(), avatarNames));
+
+            List<ReplyCommentDto> replies = repliesByComment.getOrDefault(r.getId(), List.of()).stream()
+                    .map(reply -> {
+                        Member author = replyAuthors.get(reply.getAuthor());
+                        ReplyCommentDto rd = new ReplyCommentDto();
+                        rd.setId(reply.getId());
+                        rd.setCommentId(reply.getCommentId());
+                        rd.setReply(reply.getReplyComment());
+                        rd.setAuthorEmail(reply.getAuthor());
+                        rd.setAuthorNickName(author == null ? null : author.getNickName());
+                        rd.setInsertedAt(formatSeoul(reply.getInsertedAt()));
+                        rd.setProfileImageUrl(author == null ? null : avatarUrl(author.getId(), avatarNames));
+                        return rd;
+                    })
+                    .collect(Collectors.toList());
+            dto.setReplies(replies);
+            comments.add(dto);
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("comments", comments);
+        result.put("nextCursor", hasNext ? comments.get(comments.size() - 1).getId() : null);
+        // 전체 댓글 수는 첫 페이지에만 (더 보기 요청마다 COUNT 하지 않음)
+        if (after == 0) {
+            result.put("total", hasNext ? commentRepository.countByBoardId(boardId) : comments.size());
+        }
+        return result;
+    }
+
+    private String avatarUrl(Long memberId, Map<Long, String> avatarNames) {
+        String name = avatarNames.get(memberId);
+        return name == null ? null : imagePrefix + "prj3/member/" + memberId + "/" + name;
+    }
+
+    private static String formatSeoul(LocalDateTime insertedAt) {
+        if (insertedAt == null) return null;
+        return insertedAt.atZone(ZoneId.systemDefault()) // 또는 UTC
+                .withZoneSameInstant(SEOUL)
+                .format(INSERTED_AT_FORMAT);
+    }
+
+    // ──────────────────────────────────
+    // 답글
+    // ──────────────────────────────────
+    public void addReply(ReplyCommentForm form, Authentication authentication) {
+        if (authentication == null) {
+            throw new RuntimeException("권한이 없습니다.");
+        }
+        if (form.getReply() == null || form.getReply().trim().isEmpty()) {
+            throw new IllegalArgumentException("답글 내용을 입력해주세요.");
+        }
+        if (form.getCommentId() == null || !commentRepository.existsById(form.getCommentId())) {
+            throw new RuntimeException("댓글이 존재하지 않습니다.");
+        }
+
+        ReplyComment reply = new ReplyComment();
+        reply.setCommentId(form.getCommentId());
+        reply.setAuthor(authentication.getName());
+        reply.setReplyComment(form.getReply().trim());
+        replyCommentRepository.save(reply);
+    }
+
+    public void deleteReply(Integer replyId, Authentication authentication) {
+        String email = authentication.getName();
+        ReplyComment reply = replyCommentRepository.findById(replyId)
+                .orElseThrow(() -> new RuntimeException("해당 답글이 없습니다."));
+        if (!reply.getAuthor().equals(email)) {
+            throw new RuntimeException("본인 답글만 삭제할 수 있습니다.");
+        }
+        replyCommentRepository.delete(reply);
     }
 
     public boolean validate(CommentDto dto) {
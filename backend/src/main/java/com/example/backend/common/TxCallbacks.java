@@ -0,0 +1,44 @@
+package com.example.backend.common;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+
+/**
+ * 트랜잭션 완료 시점 콜백 (캐시/인덱스 write-through, 커밋 후 외부 호출 등)
+ * - 트랜잭션 동기화가 없으면(테스트, 스케줄러 등) 즉시 커밋된 것으로 실행
+ */
+public final class TxCallbacks {
+
+    private TxCallbacks() {
+    }
+
+    /** 트랜잭션이 있으면 커밋 후, 없으면 즉시 실행 (롤백되면 실행하지 않음) */
+    public static void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    /** 트랜잭션이 있으면 완료 후(커밋 여부 전달), 없으면 즉시 커밋된 것으로 실행 */
+    public static void afterCompletion(Consumer<Boolean> task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    task.accept(status == STATUS_COMMITTED);
+                }
+            });
+        } else {
+            task.accept(true);
+        }
+    }
+}
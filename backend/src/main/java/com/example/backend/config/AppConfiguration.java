@@ -43,10 +43,11 @@
     @EnableMethodSecurity
     public class AppConfiguration {
 
-        @Value("classpath:secret/public.pem")
+        // ✅ 기본은 secret/*.pem, 테스트 프로필은 test 리소스의 테스트 전용 키
+        @Value("${app.jwt.public-key:classpath:secret/public.pem}")
         private RSAPublicKey publicKey;
 
-        @Value("classpath:secret/private.pem")
+        @Value("${app.jwt.private-key:classpath:secret/private.pem}")
         private RSAPrivateKey privateKey;
 
         @Value("${aws.access.key}")
@@ -103,6 +104,7 @@
             config.setAllowedOrigins(List.of("http://localhost:3000", "http://localhost:5173", "http://localhost:5174"));
             config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
             config.setAllowedHeaders(List.of("*"));
+            config.setExposedHeaders(List.of("X-Chat-Has-More", "X-Chat-High-Water-Mark")); // 채팅 페이지 정보
             config.setAllowCredentials(true); // 👈 인증 정보 허용
             config.setMaxAge(3600L);
 
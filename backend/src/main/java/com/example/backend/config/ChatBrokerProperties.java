@@ -0,0 +1,49 @@
+package com.example.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP 브로커 설정 (app.chat.broker.*)
+ * - simple: JVM 내부 SimpleBroker (단일 인스턴스/로컬/테스트용, 기본값)
+ * - relay : 외부 STOMP 브로커(ActiveMQ Artemis, RabbitMQ STOMP 플러그인 등)로 릴레이
+ *           → 어느 인스턴스에 붙은 소켓이든 같은 /topic, /user/queue 메시지를 받는다.
+ */
+@Getter @Setter
+@Component
+@ConfigurationProperties(prefix = "app.chat.broker")
+public class ChatBrokerProperties {
+
+    public enum Mode { SIMPLE, RELAY }
+
+    /** simple | relay */
+    private Mode mode = Mode.SIMPLE;
+
+    /** 외부 브로커 주소 (relay 전용) */
+    private String relayHost = "localhost";
+    private int relayPort = 61613;
+
+    /** 클라이언트 세션용 계정 (브라우저 연결마다 브로커에 열리는 세션) */
+    private String clientLogin = "guest";
+    private String clientPasscode = "guest";
+
+    /** 서버 → 브로커 시스템 세션 계정 (convertAndSend 가 쓰는 공용 연결) */
+    private String systemLogin = "guest";
+    private String systemPasscode = "guest";
+
+    /** RabbitMQ vhost 등 (없으면 relayHost 사용) */
+    private String virtualHost;
+
+    /** 시스템 세션 하트비트 (ms) */
+    private long systemHeartbeatSendInterval = 10_000;
+    private long systemHeartbeatReceiveInterval = 10_000;
+
+    /**
+     * 다른 인스턴스에 연결된 사용자에게 /user/** 메시지를 넘길 때 쓰는 공용 목적지.
+     * 인스턴스끼리 접속 사용자 목록(SimpUserRegistry)도 이 방식으로 공유한다.
+     */
+    private String userDestinationBroadcast = "/topic/unresolved-user-destination";
+    private String userRegistryBroadcast = "/topic/simp-user-registry";
+}
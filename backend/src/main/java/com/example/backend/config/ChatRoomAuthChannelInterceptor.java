@@ -0,0 +1,77 @@
+// src/main/java/com/example/backend/config/ChatRoomAuthChannelInterceptor.java
+package com.example.backend.config;
+
+import com.example.backend.chat.service.RoomMembershipCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+
+/**
+ * 채팅방 단위 인가 (WebSocketAuthChannelInterceptor 다음에 실행)
+ * - SEND      /app/rooms/{roomId}/**
+ * - SUBSCRIBE /topic/rooms/{roomId}/**
+ * 참가자가 아니면 거부. RoomMembershipCache(선적재 + write-through) 조회만 하므로 프레임당 DB 접근 없음.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatRoomAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final String SEND_PREFIX = "/app/rooms/";
+    private static final String TOPIC_PREFIX = "/topic/rooms/";
+
+    private final RoomMembershipCache membershipCache;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) accessor = StompHeaderAccessor.wrap(message);
+
+        StompCommand command = accessor.getCommand();
+        String prefix;
+        if (StompCommand.SEND.equals(command)) {
+            prefix = SEND_PREFIX;
+        } else if (StompCommand.SUBSCRIBE.equals(command)) {
+            prefix = TOPIC_PREFIX;
+        } else {
+            return message;
+        }
+
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(prefix)) return message;
+
+        Long roomId = parseRoomId(destination, prefix.length());
+        Principal user = accessor.getUser();
+        if (roomId == null || user == null) {
+            throw new MessageDeliveryException(message, "채팅방 권한이 없습니다.");
+        }
+
+        Long memberId;
+        try {
+            memberId = Long.valueOf(user.getName()); // Principal.getName() == memberId
+        } catch (NumberFormatException e) {
+            throw new MessageDeliveryException(message, "채팅방 권한이 없습니다.");
+        }
+
+        if (!membershipCache.isMember(roomId, memberId)) {
+            throw new MessageDeliveryException(message, "채팅방 참가자가 아닙니다.");
+        }
+        return message;
+    }
+
+    /** "/topic/rooms/123/..." 에서 123 (숫자가 아니면 null) */
+    private static Long parseRoomId(String destination, int from) {
+        int end = from;
+        while (end < destination.length() && Character.isDigit(destination.charAt(end))) end++;
+        if (end == from || end - from > 18) return null;
+        if (end < destination.length() && destination.charAt(end) != '/') return null;
+        return Long.parseLong(destination, from, end, 10);
+    }
+}
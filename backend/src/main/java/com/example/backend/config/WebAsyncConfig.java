@@ -0,0 +1,23 @@
+package com.example.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * MVC 비동기 응답 설정.
+ * 관리자 내보내기(StreamingResponseBody)는 전체 이력을 내려받느라 오래 걸릴 수 있어
+ * 컨테이너 기본 타임아웃(30초) 대신 넉넉하게 잡는다. (현재 비동기 응답은 내보내기만 사용)
+ */
+@Configuration
+public class WebAsyncConfig implements WebMvcConfigurer {
+
+    @Value("${app.export.async-timeout-ms:1800000}")
+    private long asyncTimeoutMs;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncTimeoutMs);
+    }
+}
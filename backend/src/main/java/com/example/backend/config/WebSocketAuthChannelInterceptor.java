@@ -1,6 +1,7 @@
 // src/main/java/com/example/backend/config/WebSocketAuthChannelInterceptor.java
 package com.example.backend.config;
 
+import com.example.backend.chat.service.PresenceService;
 import com.example.backend.member.entity.Member;
 import com.example.backend.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +24,7 @@ public class WebSocketAuthChannelInterceptor implements ChannelInterceptor {
 
     private final JwtDecoder jwtDecoder;
     private final MemberRepository memberRepository;
+    private final PresenceService presenceService;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -31,7 +33,10 @@ public class WebSocketAuthChannelInterceptor implements ChannelInterceptor {
         if (StompCommand.CONNECT.equals(accessor.getCommand())) {
             String authHeader = accessor.getFirstNativeHeader("Authorization");
             if (!StringUtils.hasText(authHeader) || !authHeader.startsWith("Bearer ")) {
-                if (accessor.getUser() != null) return message; // Handshake에서 세팅된 경우
+                if (accessor.getUser() != null) { // Handshake에서 세팅된 경우
+                    markConnected(accessor, accessor.getUser().getName());
+                    return message;
+                }
                 throw new IllegalArgumentException("No JWT token found in STOMP CONNECT headers");
             }
 
@@ -58,8 +63,20 @@ public class WebSocketAuthChannelInterceptor implements ChannelInterceptor {
             authentication.setAuthenticated(true);
 
             accessor.setUser(authentication);
+            markConnected(accessor, authentication.getName());
+        } else if (StompCommand.DISCONNECT.equals(accessor.getCommand())) {
+            // ✅ 클라이언트 DISCONNECT + 소켓 종료 시 각각 들어옴 → PresenceService 가 세션 기준으로 한 번만 반영
+            presenceService.disconnected(accessor.getSessionId());
         }
 
         return message;
     }
+
+    private void markConnected(StompHeaderAccessor accessor, String name) {
+        try {
+            presenceService.connected(accessor.getSessionId(), Long.valueOf(name));
+        } catch (NumberFormatException ignore) {
+            // memberId 가 아닌 Principal 은 접속 상태 대상 아님
+        }
+    }
 }
@@ -15,6 +15,8 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     private final WsPrincipalHandshakeHandler wsPrincipalHandshakeHandler;
     private final TokenHandshakeInterceptor tokenHandshakeInterceptor;
     private final WebSocketAuthChannelInterceptor webSocketAuthChannelInterceptor;
+    private final ChatRoomAuthChannelInterceptor chatRoomAuthChannelInterceptor;
+    private final ChatBrokerProperties brokerProperties;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -33,13 +35,32 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         registry.setApplicationDestinationPrefixes("/app");
-        registry.enableSimpleBroker("/topic", "/queue");
         registry.setUserDestinationPrefix("/user");
+
+        if (brokerProperties.getMode() == ChatBrokerProperties.Mode.RELAY) {
+            // ✅ 다중 인스턴스: 외부 STOMP 브로커로 릴레이 (구독/발행 모두 브로커 경유 → 소켓 고정 불필요)
+            registry.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(brokerProperties.getRelayHost())
+                    .setRelayPort(brokerProperties.getRelayPort())
+                    .setClientLogin(brokerProperties.getClientLogin())
+                    .setClientPasscode(brokerProperties.getClientPasscode())
+                    .setSystemLogin(brokerProperties.getSystemLogin())
+                    .setSystemPasscode(brokerProperties.getSystemPasscode())
+                    .setVirtualHost(brokerProperties.getVirtualHost())
+                    .setSystemHeartbeatSendInterval(brokerProperties.getSystemHeartbeatSendInterval())
+                    .setSystemHeartbeatReceiveInterval(brokerProperties.getSystemHeartbeatReceiveInterval())
+                    // /user/{memberId}/queue/** 를 다른 인스턴스의 세션에도 전달
+                    .setUserDestinationBroadcast(brokerProperties.getUserDestinationBroadcast())
+                    .setUserRegistryBroadcast(brokerProperties.getUserRegistryBroadcast());
+        } else {
+            // ✅ 단일 인스턴스/로컬/테스트: JVM 내부 브로커
+            registry.enableSimpleBroker("/topic", "/queue");
+        }
     }
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        // ✅ STOMP CONNECT 시 Authorization 헤더로 인증
-        registration.interceptors(webSocketAuthChannelInterceptor);
+        // ✅ STOMP CONNECT 시 Authorization 헤더로 인증 → 방 SEND/SUBSCRIBE 참가자 검사
+        registration.interceptors(webSocketAuthChannelInterceptor, chatRoomAuthChannelInterceptor);
     }
 }
@@ -0,0 +1,55 @@
+package com.example.backend.export.controller;
+
+import com.example.backend.export.service.AdminExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/export")
+@RequiredArgsConstructor
+public class AdminExportController {
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final AdminExportService adminExportService;
+
+    // 전체 내보내기 (type: reviews | review-reports | board-reports | supports, format: csv | ndjson)
+    @GetMapping("/{type}")
+    @PreAuthorize("hasAuthority('SCOPE_admin')")
+    public ResponseEntity<?> export(@PathVariable String type,
+                                    @RequestParam(defaultValue = "csv") String format) {
+        AdminExportService.Format fmt = switch (format.toLowerCase()) {
+            case "csv" -> AdminExportService.Format.CSV;
+            case "ndjson", "jsonl" -> AdminExportService.Format.NDJSON;
+            default -> null;
+        };
+        if (fmt == null || !AdminExportService.TYPES.contains(type)) {
+            return ResponseEntity.badRequest().body(Map.of("message",
+                    Map.of("type", "error", "text", "지원하지 않는 내보내기입니다: " + type + " (" + format + ")")));
+        }
+
+        String fileName = type + "-" + LocalDateTime.now().format(FILE_TIME)
+                + (fmt == AdminExportService.Format.CSV ? ".csv" : ".ndjson");
+        MediaType contentType = fmt == AdminExportService.Format.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : new MediaType("application", "x-ndjson", StandardCharsets.UTF_8);
+
+        StreamingResponseBody body = out -> adminExportService.export(type, fmt, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .contentType(contentType)
+                .body(body);
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.backend.export.service;
+
+import com.example.backend.board.repository.BoardReportRepository;
+import com.example.backend.review.repository.ReviewReportRepository;
+import com.example.backend.review.repository.ReviewRepository;
+import com.example.backend.support.entity.SupportRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 관리자 데이터 내보내기 (리뷰 / 리뷰 신고 / 게시글 신고 / 고객문의)
+ * - 읽기 전용 트랜잭션 안에서 Stream 으로 한 행씩 읽어 바로 출력 → 전체를 메모리에 올리지 않음
+ *   (projection 이라 영속성 컨텍스트에도 쌓이지 않고, fetch size 로 커서 단위 전송)
+ * - CSV: 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM, 수식으로 해석될 수 있는 값은 ' 를 앞에 붙임
+ * - NDJSON: 한 줄에 JSON 객체 하나
+ */
+@Service
+@RequiredArgsConstructor
+public class AdminExportService {
+
+    public enum Format { CSV, NDJSON }
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewReportRepository reviewReportRepository;
+    private final BoardReportRepository boardReportRepository;
+    private final SupportRepository supportRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    /** 내보내기 대상 (URL 경로 이름 → 컬럼/조회) */
+    public static final List<String> TYPES = List.of("reviews", "review-reports", "board-reports", "supports");
+
+    public void export(String type, Format format, OutputStream out) {
+        switch (type) {
+            case "reviews" -> write(out, format,
+                    List.of("id", "facilityId", "facilityName", "memberEmail", "rating", "likeCount", "review", "insertedAt"),
+                    reviewRepository::streamAllForExport,
+                    r -> new Object[]{r.getId(), r.getFacilityId(), r.getFacilityName(), r.getMemberEmail(),
+                            r.getRating(), r.getLikeCount(), r.getReview(), r.getInsertedAt()});
+            case "review-reports" -> write(out, format,
+                    List.of("id", "reviewId", "reporterEmail", "reason", "reportedAt"),
+                    reviewReportRepository::streamAllForExport,
+                    r -> new Object[]{r.getId(), r.getReviewId(), r.getReporterEmail(), r.getReason(), r.getReportedAt()});
+            case "board-reports" -> write(out, format,
+                    List.of("id", "boardId", "reporterId", "reason", "detail", "status", "adminMemo", "insertedAt", "updatedAt"),
+                    boardReportRepository::streamAllForExport,
+                    r -> new Object[]{r.getId(), r.getBoardId(), r.getReporterId(), r.getReason(), r.getDetail(),
+                            r.getStatus(), r.getAdminMemo(), r.getInsertedAt(), r.getUpdatedAt()});
+            case "supports" -> write(out, format,
+                    List.of("id", "email", "title", "content", "insertedAt"),
+                    supportRepository::streamAllForExport,
+                    r -> new Object[]{r.getId(), r.getEmail(), r.getTitle(), r.getContent(), r.getInsertedAt()});
+            default -> throw new IllegalArgumentException("지원하지 않는 내보내기 대상입니다: " + type);
+        }
+    }
+
+    private <T> void write(OutputStream out, Format format, List<String> columns,
+                           Supplier<Stream<T>> query, Function<T, Object[]> values) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+            try (Stream<T> rows = query.get()) {
+                if (format == Format.CSV) {
+                    writeCsv(writer, columns, rows, values);
+                } else {
+                    writeNdjson(writer, columns, rows, values);
+                }
+                writer.flush();
+            } catch (IOException e) {
+                // 대부분 클라이언트가 다운로드를 끊은 경우
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static <T> void writeCsv(Writer writer, List<String> columns, Stream<T> rows,
+                                     Function<T, Object[]> values) throws IOException {
+        writer.write('\uFEFF'); // BOM
+        CSVPrinter printer = CSVFormat.DEFAULT.builder()
+                .setHeader(columns.toArray(String[]::new))
+                .build()
+                .print(writer);
+        Iterator<T> it = rows.iterator();
+        while (it.hasNext()) {
+            Object[] row = values.apply(it.next());
+            for (Object value : row) {
+                printer.print(value instanceof String s ? escapeFormula(s) : value);
+            }
+            printer.println();
+        }
+    }
+
+    private <T> void writeNdjson(Writer writer, List<String> columns, Stream<T> rows,
+                                 Function<T, Object[]> values) throws IOException {
+        Map<String, Object> line = new LinkedHashMap<>();
+        Iterator<T> it = rows.iterator();
+        while (it.hasNext()) {
+            Object[] row = values.apply(it.next());
+            for (int i = 0; i < columns.size(); i++) {
+                line.put(columns.get(i), row[i]);
+            }
+            writer.write(objectMapper.writeValueAsString(line));
+            writer.write('\n');
+        }
+    }
+
+    // =, +, -, @ 로 시작하는 셀은 엑셀에서 수식으로 실행될 수 있음
+    private static String escapeFormula(String s) {
+        if (!s.isEmpty() && "=+-@\t\r".indexOf(s.charAt(0)) >= 0) {
+            return "'" + s;
+        }
+        return s;
+    }
+}
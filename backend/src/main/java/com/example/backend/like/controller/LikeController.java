@@ -15,8 +15,8 @@ public class LikeController {
     private final LikeService likeService;
 
     @PutMapping
-    public void like(@RequestBody LikeForm likeForm, Authentication authentication) {
-        likeService.update(likeForm, authentication);
+    public BoardLikeDto like(@RequestBody LikeForm likeForm, Authentication authentication) {
+        return likeService.update(likeForm, authentication);
     }
 
     @GetMapping("board/{boardId}")
@@ -5,4 +5,6 @@ import lombok.Data;
 @Data
 public class LikeForm {
     private Integer boardId;
+    // 원하는 상태(선택). 없으면 토글
+    private Boolean liked;
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import com.example.backend.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
@@ -24,4 +25,17 @@ public interface BoardLikeRepository extends JpaRepository<BoardLike, BoardLikeI
     @Modifying
     @Query("delete from BoardLike bl where bl.member.email = :memberEmail")
     void deleteByMemberEmail(String memberEmail);  // 수정된 부분
-}
\ No newline at end of file
+
+    // ✅ 원자적 토글용 (영향받은 행 수로 상태 판단 → 조회 후 삭제/삽입 경쟁 없음)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO board_like (board_id, member_id) VALUES (:boardId, :memberId)",
+            nativeQuery = true)
+    int insertIgnore(@Param("boardId") Integer boardId, @Param("memberId") Long memberId);
+
+    @Modifying
+    @Query(value = "DELETE FROM board_like WHERE board_id = :boardId AND member_id = :memberId",
+            nativeQuery = true)
+    int deleteOne(@Param("boardId") Integer boardId, @Param("memberId") Long memberId);
+
+    boolean existsByIdBoardIdAndIdMemberId(Integer boardId, Long memberId);
+}
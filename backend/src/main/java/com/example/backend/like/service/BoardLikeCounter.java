@@ -0,0 +1,55 @@
+package com.example.backend.like.service;
+
+import com.example.backend.board.repository.BoardRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글별 좋아요 수 캐시.
+ * - 원본은 board.like_count (토글 시 같은 트랜잭션에서 ±1)
+ * - 토글 커밋 후 그 트랜잭션이 읽은 값으로 덮어쓰고, 짧은 TTL 로 순서 역전/보정 결과를 흡수
+ * - 항목이 너무 많아지면 통째로 비움 (다시 읽어도 PK 조회 1회)
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardLikeCounter {
+
+    private static final long TTL_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final int MAX_ENTRIES = 10_000;
+
+    private record Entry(long count, long loadedAt) {}
+
+    private final BoardRepository boardRepository;
+    private final Map<Integer, Entry> counts = new ConcurrentHashMap<>();
+
+    /** 캐시 → 없거나 만료면 board.like_count (게시글이 없으면 0) */
+    public long get(Integer boardId) {
+        long now = System.nanoTime();
+        Entry e = counts.get(boardId);
+        if (e != null && now - e.loadedAt() < TTL_NANOS) {
+            return e.count();
+        }
+        long count = boardRepository.findLikeCount(boardId).orElse(0);
+        put(boardId, count);
+        return count;
+    }
+
+    public void put(Integer boardId, long count) {
+        if (counts.size() >= MAX_ENTRIES) {
+            counts.clear();
+        }
+        counts.put(boardId, new Entry(count, System.nanoTime()));
+    }
+
+    public void evict(Integer boardId) {
+        counts.remove(boardId);
+    }
+
+    public void clear() {
+        counts.clear();
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.backend.like.service;
+
+import com.example.backend.board.repository.BoardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * board.like_count 보정 작업.
+ * - 토글은 카운터를 같이 갱신하지만, 회원 탈퇴(deleteByMemberEmail)처럼 board_like 를 일괄 삭제하는 경로나
+ *   수동 데이터 수정은 카운터를 건드리지 않으므로 주기적으로 실제 행 수와 맞춘다.
+ * - id 구간(CHUNK) 단위로 짧은 트랜잭션을 여러 번 → board 테이블 잠금을 오래 잡지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardLikeReconciler {
+
+    private static final int CHUNK = 1_000;
+
+    private final BoardRepository boardRepository;
+    private final BoardLikeCounter boardLikeCounter;
+
+    @Scheduled(cron = "${app.like.reconcile-cron:0 17 * * * *}")
+    public void reconcile() {
+        Integer maxId = boardRepository.findMaxId();
+        if (maxId == null) return;
+
+        int fixed = 0;
+        for (int from = 1; from <= maxId; from += CHUNK) {
+            fixed += boardRepository.reconcileLikeCounts(from, from + CHUNK - 1);
+        }
+        if (fixed > 0) {
+            boardLikeCounter.clear();
+            log.info("board like_count reconciled: {} rows", fixed);
+        }
+    }
+}
@@ -1,12 +1,11 @@
 package com.example.backend.like.service;
 
 import com.example.backend.board.repository.BoardRepository;
+import com.example.backend.common.TxCallbacks;
 import com.example.backend.like.dto.BoardLikeDto;
 import com.example.backend.like.dto.LikeForm;
-import com.example.backend.like.entity.BoardLike;
-import com.example.backend.like.entity.BoardLikeId;
 import com.example.backend.like.repository.BoardLikeRepository;
-import com.example.backend.member.repository.MemberRepository;
+import com.example.backend.member.service.MemberIdResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
@@ -19,51 +18,65 @@ public class LikeService {
 
     private final BoardLikeRepository boardLikeRepository;
     private final BoardRepository boardRepository;
-    private final MemberRepository memberRepository;
+    private final MemberIdResolver memberIdResolver;
+    private final BoardLikeCounter boardLikeCounter;
 
-    public void update(LikeForm likeForm, Authentication authentication) {
+    /**
+     * 좋아요 토글 (likeForm.liked 가 있으면 그 상태로 맞춤 → 같은 요청을 반복해도 결과 동일)
+     * - DELETE / INSERT IGNORE 의 영향받은 행 수로 실제 변경 여부를 판단
+     *   → 더블클릭으로 동시에 들어와도 행은 하나, 카운터도 실제 변경된 만큼만 움직인다.
+     * - board.like_count 는 같은 트랜잭션에서 ±1
+     */
+    public BoardLikeDto update(LikeForm likeForm, Authentication authentication) {
         if (authentication == null) {
             throw new RuntimeException("로그인 하세요");
         }
-
-        String email = authentication.getName();
         Integer boardId = likeForm.getBoardId();
+        Long memberId = memberIdResolver.resolve(authentication);
+        Boolean want = likeForm.getLiked();
 
-        var boardLike = boardLikeRepository.findByBoardIdAndMemberEmail(boardId, email);
-
-        if (boardLike.isPresent()) {
-            boardLikeRepository.delete(boardLike.get());
+        boolean liked;
+        int delta = 0;
+        if (Boolean.TRUE.equals(want)) {
+            delta = boardLikeRepository.insertIgnore(boardId, memberId);
+            liked = true;
+        } else if (Boolean.FALSE.equals(want)) {
+            delta = -boardLikeRepository.deleteOne(boardId, memberId);
+            liked = false;
+        } else if (boardLikeRepository.deleteOne(boardId, memberId) > 0) {
+            delta = -1;
+            liked = false;
         } else {
-            var board = boardRepository.findById(boardId)
-                    .orElseThrow(() -> new RuntimeException("게시물 없음"));
-            var member = memberRepository.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("회원 없음"));
+            delta = boardLikeRepository.insertIgnore(boardId, memberId);
+            liked = true;
+        }
 
-            BoardLikeId boardLikeId = new BoardLikeId();
-            boardLikeId.setBoardId(boardId);
-//            boardLikeId.setMemberId(member.getId()); // 이건 없어도 동작이 일단 하는디 왜 있지
+        if (delta != 0) {
+            boardRepository.adjustLikeCount(boardId, delta);
+        }
+        // 게시글이 없으면 INSERT IGNORE 는 FK 오류 대신 0행 → 여기서 걸러서 롤백
+        long count = boardRepository.findLikeCount(boardId)
+                .orElseThrow(() -> new RuntimeException("게시물 없음"));
 
-            BoardLike newLike = new BoardLike();
-            newLike.setId(boardLikeId);
-            newLike.setBoard(board);
-            newLike.setMember(member);
+        TxCallbacks.afterCommit(() -> boardLikeCounter.put(boardId, count));
 
-            boardLikeRepository.save(newLike);
-        }
+        BoardLikeDto boardLikeDto = new BoardLikeDto();
+        boardLikeDto.setCount(count);
+        boardLikeDto.setLiked(liked);
+        return boardLikeDto;
     }
 
+    @Transactional(readOnly = true)
     public BoardLikeDto get(Integer boardId, Authentication authentication) {
-        Long count = boardLikeRepository.countByBoardId(boardId);
-        boolean liked = false;
-        if (authentication != null) {
-            var row = boardLikeRepository
-                    .findByBoardIdAndMemberEmail(boardId, authentication.getName());
-            liked = row.isPresent();
-        }
+        long count = boardLikeCounter.get(boardId);
+        boolean liked = memberIdResolver.resolveOptional(authentication)
+                .map(memberId -> boardLikeRepository.existsByIdBoardIdAndIdMemberId(boardId, memberId))
+                .orElse(false);
+
         BoardLikeDto boardLikeDto = new BoardLikeDto();
         boardLikeDto.setCount(count);
         boardLikeDto.setLiked(liked);
 
         return boardLikeDto;
     }
-}
\ No newline at end of file
+}
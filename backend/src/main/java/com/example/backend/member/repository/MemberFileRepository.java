@@ -12,4 +12,19 @@ import java.util.List;
 public interface MemberFileRepository extends JpaRepository<MemberFile, MemberFileId> {
     @Query("SELECT mf FROM MemberFile mf WHERE mf.member.id IN :memberIds ORDER BY mf.id.name ASC")
     List<MemberFile> findByMemberIdIn(@Param("memberIds") Collection<Long> memberIds);
-}
\ No newline at end of file
+
+    // ✅ 회원별 대표(첫 번째) 프로필 파일명만 조회
+    //  - MemberFile 엔티티는 member 가 EAGER 라 엔티티로 읽으면 회원마다 select 가 추가로 나간다
+    interface AvatarView {
+        Long getMemberId();
+        String getName();
+    }
+
+    @Query("""
+        SELECT mf.id.memberId AS memberId, MIN(mf.id.name) AS name
+        FROM MemberFile mf
+        WHERE mf.id.memberId IN :memberIds
+        GROUP BY mf.id.memberId
+        """)
+    List<AvatarView> findFirstNamesByMemberIdIn(@Param("memberIds") Collection<Long> memberIds);
+}
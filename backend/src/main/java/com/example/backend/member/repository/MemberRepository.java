@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,4 +28,23 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 //    Long id(Long id);
     Optional<Member> findByKakaoId(Long kakaoId);
 
+    // 이메일 목록으로 한 번에 조회 (답글 작성자 매핑용)
+    List<Member> findAllByEmailIn(Collection<String> emails);
+
+    // ✅ 닉네임 + 프로필 파일명 일괄 조회 (MemberProfileCache 미스 채우기용, 파일 수만큼 행)
+    interface ProfileRow {
+        Long getId();
+        String getNickName();
+        String getFileName();
+    }
+
+    @Query("""
+        SELECT m.id AS id, m.nickName AS nickName, f.id.name AS fileName
+        FROM Member m
+        LEFT JOIN m.files f
+        WHERE m.id IN :ids
+        ORDER BY m.id, f.id.name
+        """)
+    List<ProfileRow> findProfileRows(@Param("ids") Collection<Long> ids);
+
 }
\ No newline at end of file
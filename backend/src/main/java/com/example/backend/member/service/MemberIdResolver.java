@@ -0,0 +1,44 @@
+package com.example.backend.member.service;
+
+import com.example.backend.member.entity.Member;
+import com.example.backend.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 인증 정보 → memberId.
+ * - 로그인 토큰에는 uid 클레임이 들어 있으므로(MemberService.getToken) 우선 사용 → DB 조회 없음
+ * - uid 가 없는 예전 토큰이면 sub(email)로 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberIdResolver {
+
+    private final MemberRepository memberRepository;
+
+    public Long resolve(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new RuntimeException("권한이 없습니다.");
+        }
+        return resolveOptional(authentication)
+                .orElseThrow(() -> new RuntimeException("회원 정보를 찾을 수 없습니다."));
+    }
+
+    /** 비로그인 허용 API 용 (없으면 empty) */
+    public Optional<Long> resolveOptional(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return Optional.empty();
+        }
+        if (authentication.getPrincipal() instanceof Jwt jwt) {
+            Object uid = jwt.getClaims().get("uid");
+            if (uid instanceof Number n) {
+                return Optional.of(n.longValue());
+            }
+        }
+        return memberRepository.findByEmail(authentication.getName()).map(Member::getId);
+    }
+}
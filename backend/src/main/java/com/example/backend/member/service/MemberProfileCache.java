@@ -0,0 +1,105 @@
+package com.example.backend.member.service;
+
+import com.example.backend.common.TxCallbacks;
+import com.example.backend.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * memberId → (닉네임, 대표 아바타 URL) 캐시.
+ * - 채팅처럼 같은 발신자가 반복되는 화면용. 미스는 한 번의 IN 쿼리로 채운다.
+ * - 짧은 TTL + MemberService.update/delete 에서 명시적 무효화
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberProfileCache {
+
+    public static final String WITHDRAWN_NICK = "탈퇴회원";
+    private static final int MAX_ENTRIES = 10_000;
+
+    public record Profile(String nickName, String avatarUrl) {}
+
+    private record Entry(Profile profile, long loadedAt) {}
+
+    private final MemberRepository memberRepository;
+    private final Map<Long, Entry> cache = new ConcurrentHashMap<>();
+
+    @Value("${image.prefix}")
+    private String imagePrefix;
+
+    @Value("${app.ui.default-avatar:/user.png}")
+    private String defaultAvatar;
+
+    @Value("${app.member.profile-cache-ttl-seconds:60}")
+    private long ttlSeconds;
+
+    public Profile get(Long memberId) {
+        if (memberId == null) return new Profile(WITHDRAWN_NICK, defaultAvatar);
+        return getAll(List.of(memberId)).get(memberId);
+    }
+
+    /** 요청한 id 모두에 대해 값을 돌려준다 (없는 회원은 탈퇴회원 + 기본 아바타) */
+    public Map<Long, Profile> getAll(Collection<Long> memberIds) {
+        long now = System.nanoTime();
+        long ttl = TimeUnit.SECONDS.toNanos(ttlSeconds);
+
+        Map<Long, Profile> result = new HashMap<>();
+        Set<Long> misses = new HashSet<>();
+        for (Long id : memberIds) {
+            if (id == null) continue;
+            Entry e = cache.get(id);
+            if (e != null && now - e.loadedAt() < ttl) {
+                result.put(id, e.profile());
+            } else {
+                misses.add(id);
+            }
+        }
+        if (misses.isEmpty()) return result;
+
+        // 회원별 파일명은 이름순으로 온다 → 이미지 확장자 우선, 없으면 첫 파일 (ChatService 기존 규칙)
+        Map<Long, String> nickById = new HashMap<>();
+        Map<Long, String> fileById = new HashMap<>();
+        for (MemberRepository.ProfileRow row : memberRepository.findProfileRows(misses)) {
+            nickById.put(row.getId(), row.getNickName());
+            String name = row.getFileName();
+            if (name == null || name.isBlank()) continue;
+            String cur = fileById.get(row.getId());
+            if (cur == null || (!isImage(cur) && isImage(name))) {
+                fileById.put(row.getId(), name);
+            }
+        }
+
+        if (cache.size() + misses.size() > MAX_ENTRIES) {
+            cache.clear();
+        }
+        for (Long id : misses) {
+            Profile p;
+            if (nickById.containsKey(id)) {
+                String file = fileById.get(id);
+                p = new Profile(nickById.get(id),
+                        file == null ? defaultAvatar : imagePrefix + "prj3/member/" + id + "/" + file);
+            } else {
+                p = new Profile(WITHDRAWN_NICK, defaultAvatar);
+            }
+            cache.put(id, new Entry(p, now));
+            result.put(id, p);
+        }
+        return result;
+    }
+
+    /** 지금 비우고, 트랜잭션 중이면 커밋 후 한 번 더 (커밋 전에 다시 읽힌 옛 값 제거) */
+    public void invalidate(Long memberId) {
+        if (memberId == null) return;
+        cache.remove(memberId);
+        TxCallbacks.afterCompletion(committed -> cache.remove(memberId));
+    }
+
+    private static boolean isImage(String name) {
+        return name.matches("(?i).+\\.(jpg|jpeg|png|gif|webp)$");
+    }
+}
@@ -51,6 +51,7 @@ public class MemberService {
     private final BoardRepository boardRepository;
     private final BoardLikeRepository boardLikeRepository;
     private final S3Client s3Client;
+    private final MemberProfileCache memberProfileCache;
 
     // 카카오/외부 로그인 임시 탈퇴 코드
     private final Map<String, String> withdrawalCodes = new ConcurrentHashMap<>();
@@ -210,6 +211,7 @@ public class MemberService {
         }
 
         memberRepository.delete(member);
+        memberProfileCache.invalidate(member.getId());
     }
 
     public void update(MemberForm memberForm, List<MultipartFile> profileFiles, List<String> deleteProfileFileNames) {
@@ -229,6 +231,7 @@ public class MemberService {
         member.setNickName(memberForm.getNickName().trim());
         member.setInfo(memberForm.getInfo());
         memberRepository.save(member);
+        memberProfileCache.invalidate(member.getId());
 
         // 삭제
         if (deleteProfileFileNames != null && !deleteProfileFileNames.isEmpty()) {
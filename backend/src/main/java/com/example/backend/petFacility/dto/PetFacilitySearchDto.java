@@ -1,5 +1,6 @@
 package com.example.backend.petFacility.dto;
 
+import com.example.backend.petFacility.entity.PetFacility;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -29,4 +30,30 @@ public class PetFacilitySearchDto {
     private String petRestrictions;
     private String indoorFacility;
     private String outdoorFacility;
+
+    public static PetFacilitySearchDto from(PetFacility facility) {
+        return new PetFacilitySearchDto(
+                facility.getId(),
+                facility.getName(),
+                facility.getLatitude(),
+                facility.getLongitude(),
+                facility.getCategory2(),
+                facility.getRoadAddress(),
+                facility.getCategory3(),
+                facility.getSidoName(),
+                facility.getSigunguName(),
+                facility.getRoadName(),
+                facility.getBunji(),
+                facility.getJibunAddress(),
+                facility.getPhoneNumber(),
+                facility.getHoliday(),
+                facility.getOperatingHours(),
+                facility.getParkingAvailable(),
+                facility.getPetFriendlyInfo(),
+                facility.getAllowedPetSize(),
+                facility.getPetRestrictions(),
+                facility.getIndoorFacility(),
+                facility.getOutdoorFacility()
+        );
+    }
 }
@@ -172,4 +172,15 @@ public interface PetFacilityRepository extends JpaRepository<PetFacility, Long>
     Optional<PetFacility> findByName(String facilityName);
 
     List<PetFacility> findByNameAndSidoNameAndSigunguName(String name, String sidoName, String sigunguName);
-}
\ No newline at end of file
+
+    // 태그 검색(TagIndex) 필터 비트맵 적재용
+    interface FacilityFilterRow {
+        Long getId();
+        String getSidoName();
+        String getSigunguName();
+        String getCategory2();
+    }
+
+    @Query("SELECT pf.id AS id, pf.sidoName AS sidoName, pf.sigunguName AS sigunguName, pf.category2 AS category2 FROM PetFacility pf")
+    List<FacilityFilterRow> findAllFilterRows();
+}
@@ -57,6 +57,22 @@ public class ReviewController {
         return ResponseEntity.ok(reviews);
     }
 
+    // 특정 시설 리뷰 피드 (최신순, cursor = 이전 응답의 nextCursor / 없으면 처음부터)
+    @GetMapping("/facility/{facilityId}/feed")
+    public ResponseEntity<Map<String, Object>> getReviewFeed(
+            @PathVariable Long facilityId,
+            @RequestParam(required = false) Integer cursor,
+            @RequestParam(defaultValue = "10") Integer size
+    ) {
+        return ResponseEntity.ok(reviewService.findFeedByFacilityId(facilityId, cursor, size));
+    }
+
+    // 특정 시설 평점 통계 (피드가 페이지 단위라 총 개수/평균/분포는 따로)
+    @GetMapping("/facility/{facilityId}/stats")
+    public ResponseEntity<Map<String, Object>> getRatingStats(@PathVariable Long facilityId) {
+        return ResponseEntity.ok(reviewService.findRatingStats(facilityId));
+    }
+
     // 리뷰 수정
     @PostMapping("/update/{id}")
     @PreAuthorize("isAuthenticated()")
@@ -7,6 +7,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/reviewlike")
@@ -26,4 +28,15 @@ public class ReviewLikeController {
 
         return likeService.get(reviewId, authentication);
     }
+
+    // 리뷰 목록의 좋아요 수/여부 한 번에 (?reviewIds=1,2,3 → 리뷰별 ReviewLikeDto, 리뷰마다 GET 하지 않도록)
+    @GetMapping("liked")
+    public List<ReviewLikeDto> liked(
+            @RequestParam("reviewIds") List<Integer> reviewIds,
+            Authentication authentication) {
+
+        // 한 번에 최대 500개
+        List<Integer> ids = reviewIds.size() > 500 ? reviewIds.subList(0, 500) : reviewIds;
+        return likeService.findLikes(ids, authentication);
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.backend.review.controller;
 
+import com.example.backend.review.dto.TagCountDto;
 import com.example.backend.review.dto.TagDto;
 import com.example.backend.review.service.TagService;
 import lombok.RequiredArgsConstructor;
@@ -7,6 +8,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @RestController
@@ -35,4 +37,29 @@ public class TagController {
         List<TagDto> createdTags = tagService.createTagsFromInput(rawTags);
         return ResponseEntity.ok(createdTags);
     }
-}
\ No newline at end of file
+
+    // 태그로 시설 찾기 (?tags=대형견,놀이터 → 모든 태그가 달린 시설)
+    @GetMapping("/facilities")
+    public ResponseEntity<?> searchFacilities(@RequestParam String tags,
+                                              @RequestParam(required = false) String sidoName,
+                                              @RequestParam(required = false) String sigunguName,
+                                              @RequestParam(required = false) String category2,
+                                              @RequestParam(defaultValue = "0") int page,
+                                              @RequestParam(defaultValue = "20") int size) {
+        try {
+            int safePage = Math.max(0, page);
+            int safeSize = Math.min(Math.max(1, size), 100);
+            return ResponseEntity.ok(tagService.searchFacilities(tags, sidoName, sigunguName, category2, safePage, safeSize));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message",
+                    Map.of("type", "error", "text", e.getMessage())));
+        }
+    }
+
+    // 시설 태그 클라우드
+    @GetMapping("/facility/{facilityId}/cloud")
+    public ResponseEntity<List<TagCountDto>> facilityTagCloud(@PathVariable Long facilityId,
+                                                              @RequestParam(defaultValue = "30") int limit) {
+        return ResponseEntity.ok(tagService.facilityTagCloud(facilityId, Math.min(Math.max(1, limit), 100)));
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.backend.review.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TagCountDto {
+    private Integer id;
+    private String name;
+    private int count;
+}
@@ -0,0 +1,13 @@
+package com.example.backend.review.dto;
+
+import com.example.backend.petFacility.dto.PetFacilitySearchDto;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TagFacilityDto {
+    private PetFacilitySearchDto facility;
+    // 검색한 태그가 달린 리뷰 수 합 (정렬 기준)
+    private int matchedReviewCount;
+}
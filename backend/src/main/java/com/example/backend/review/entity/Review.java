@@ -4,6 +4,7 @@ import com.example.backend.member.entity.Member;
 import com.example.backend.petFacility.entity.PetFacility;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.Instant;
 import java.util.ArrayList;
@@ -12,6 +13,10 @@ import java.util.List;
 import java.util.Set;
 
 @Entity
+@Table(name = "review", indexes = {
+        // "좋아요순" 목록: 시설 안에서 인덱스 순서 그대로 읽는다
+        @Index(name = "idx_review_facility_likes", columnList = "facility_id, like_count DESC, inserted_at DESC")
+})
 @Setter
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -58,4 +63,13 @@ public class Review {
 
     @OneToMany(mappedBy = "review", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<ReviewLike> likes = new HashSet<>();
+
+    /**
+     * 좋아요 수 (ReviewLikeService 토글과 같은 트랜잭션에서 adjustLikeCount 로 ±1)
+     * INSERT/UPDATE 에서 제외 → 리뷰 수정 시 읽어둔 옛 값으로 덮어써 그 사이 토글이 사라지지 않게
+     */
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "like_count", nullable = false, insertable = false, updatable = false)
+    private Integer likeCount = 0;
 }
@@ -3,6 +3,24 @@ package com.example.backend.review.repository;
 import com.example.backend.review.entity.ReviewFile;
 import com.example.backend.review.entity.ReviewFileId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface ReviewFileRepository extends JpaRepository<ReviewFile, ReviewFileId> {
-}
\ No newline at end of file
+
+    interface ReviewFileRow {
+        Integer getReviewId();
+        String getName();
+    }
+
+    // 리뷰 피드 일괄 조회용 (리뷰 엔티티를 거치지 않음)
+    @Query("""
+            SELECT f.id.reviewId AS reviewId, f.id.name AS name
+            FROM ReviewFile f
+            WHERE f.id.reviewId IN :reviewIds
+            """)
+    List<ReviewFileRow> findRowsByReviewIdIn(@Param("reviewIds") Collection<Integer> reviewIds);
+}
@@ -6,8 +6,10 @@ import com.example.backend.review.entity.ReviewLikeId;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface ReviewLikeRepository extends JpaRepository<ReviewLike, ReviewLikeId> {
@@ -24,4 +26,19 @@ public interface ReviewLikeRepository extends JpaRepository<ReviewLike, ReviewLi
   @Modifying
   @Query("delete from ReviewLike bl where bl.member.email = :memberEmail")
   void deleteByMemberEmail(String memberEmail);  // 수정된 부분
-}
\ No newline at end of file
+
+  // ✅ 원자적 토글용 (영향받은 행 수로 상태 판단 → 조회 후 삭제/삽입 경쟁 없음)
+  @Modifying
+  @Query(value = "INSERT IGNORE INTO review_like (review_id, member_id) VALUES (:reviewId, :memberId)",
+          nativeQuery = true)
+  int insertIgnore(@Param("reviewId") Integer reviewId, @Param("memberId") Long memberId);
+
+  @Modifying
+  @Query(value = "DELETE FROM review_like WHERE review_id = :reviewId AND member_id = :memberId",
+          nativeQuery = true)
+  int deleteOne(@Param("reviewId") Integer reviewId, @Param("memberId") Long memberId);
+
+  // 회원이 좋아요 누른 리뷰 id (ReviewLikedCache 적재용, member_id 인덱스)
+  @Query("SELECT l.id.reviewId FROM ReviewLike l WHERE l.id.memberId = :memberId")
+  List<Integer> findReviewIdsByMemberId(@Param("memberId") Long memberId);
+}
@@ -2,12 +2,17 @@ package com.example.backend.review.repository;
 
 import com.example.backend.review.dto.ReviewReportDto;
 import com.example.backend.review.entity.ReviewReport;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ReviewReportRepository extends JpaRepository<ReviewReport, Long> {
     @Query("select rr from ReviewReport rr join fetch rr.review r join fetch r.memberEmail where r.id = :reviewId")
@@ -17,4 +22,22 @@ public interface ReviewReportRepository extends JpaRepository<ReviewReport, Long
     void deleteByReview_Id(Integer reviewId);
 
     List<ReviewReport> findAllByOrderByReportedAtDesc();
+
+    // 관리자 내보내기용 (커서로 조금씩)
+    interface ReviewReportExportRow {
+        Long getId();
+        Integer getReviewId();
+        String getReporterEmail();
+        String getReason();
+        Instant getReportedAt();
+    }
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+                SELECT rr.id AS id, rr.review.id AS reviewId, rr.reporterEmail AS reporterEmail,
+                       rr.reason AS reason, rr.reportedAt AS reportedAt
+                FROM ReviewReport rr
+                ORDER BY rr.id
+            """)
+    Stream<ReviewReportExportRow> streamAllForExport();
 }
@@ -1,14 +1,22 @@
 package com.example.backend.review.repository;
 
 import com.example.backend.review.entity.Review;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ReviewRepository extends JpaRepository<Review, Integer> {
 
@@ -25,45 +33,171 @@ public interface ReviewRepository extends JpaRepository<Review, Integer> {
 
     List<Review> findAllByPetFacility_IdOrderByInsertedAtDesc(Long facilityId);
 
-    // 좋아요 수 순 정렬 — 페이징 처리 포함 (Pageable 사용 권장)
+    // 좋아요 수 순 정렬 — like_count 컬럼 + (facility_id, like_count DESC, inserted_at DESC) 인덱스 범위 스캔
     @Query("""
                 SELECT r FROM Review r
-                LEFT JOIN r.likes rl
                 WHERE r.petFacility.id = :facilityId
-                GROUP BY r.id, r.insertedAt, r.review, r.rating, r.memberEmail, r.petFacility
-                ORDER BY COUNT(rl) DESC, r.insertedAt DESC
+                ORDER BY r.likeCount DESC, r.insertedAt DESC
             """)
     Page<Review> findByPetFacilityIdOrderByLikesDesc(@Param("facilityId") Long facilityId, Pageable pageable);
 
-    // 특정 회원의 리뷰수 구하기
-    Long countByMemberEmail_Id(Long memberId);
-
-    // 특정 회원의 리뷰 평점 평균을 계산하는 JPQL 쿼리
-    @Query("SELECT AVG(r.rating) FROM Review r WHERE r.memberEmail.id = :memberId")
-    Optional<Double> findAverageRatingByMemberId(@Param("memberId") Long memberId);
-
-
-    @Query(value = "SELECT r.id, pf.name, r.rating, r.review, " +
-            "DATE_FORMAT(r.inserted_at, '%Y-%m-%d') as date, r.facility_id " +
-            "FROM review r " +
-            "JOIN pet_facility pf ON r.facility_id = pf.id " +
-            "WHERE r.member_email = :email " +
-            "AND YEAR(r.inserted_at) = :year " +
-            "ORDER BY r.inserted_at DESC",
-            nativeQuery = true)
-    List<Object[]> findReviewsByYear(@Param("email") String email,
-                                     @Param("year") int year);
-
-    @Query(value = "SELECT r.id, pf.name, r.rating, r.review, " +
-            "DATE_FORMAT(r.inserted_at, '%Y-%m-%d') as date, r.facility_id " +
-            "FROM review r " +
-            "JOIN pet_facility pf ON r.facility_id = pf.id " +
-            "WHERE r.member_email = :email " +
-            "AND YEAR(r.inserted_at) = :year " +
-            "AND MONTH(r.inserted_at) = :month " +
-            "ORDER BY r.inserted_at DESC",
-            nativeQuery = true)
-    List<Object[]> findReviewsByYearAndMonth(@Param("email") String email,
-                                             @Param("year") int year,
-                                             @Param("month") int month);
+    // ✅ 좋아요 카운터 (review_like 토글과 같은 트랜잭션에서 ±1, 0 미만 방지)
+    @Modifying
+    @Query("""
+                UPDATE Review r
+                SET r.likeCount = CASE WHEN r.likeCount + :delta < 0 THEN 0 ELSE r.likeCount + :delta END
+                WHERE r.id = :id
+            """)
+    int adjustLikeCount(@Param("id") Integer id, @Param("delta") int delta);
+
+    @Query("SELECT r.likeCount FROM Review r WHERE r.id = :id")
+    Optional<Integer> findLikeCount(@Param("id") Integer id);
+
+    // 리뷰 목록 한 페이지의 좋아요 수 (ReviewLikeCounter.getAll, PK IN 조회 1회)
+    interface LikeCountRow {
+        Integer getId();
+        Integer getLikeCount();
+    }
+
+    @Query("SELECT r.id AS id, r.likeCount AS likeCount FROM Review r WHERE r.id IN :ids")
+    List<LikeCountRow> findLikeCounts(@Param("ids") Collection<Integer> ids);
+
+    // 작성자별 리뷰 수 / 평점 합 (ReviewerStatsStore 적재용, 평균 = ratingSum / reviewCount)
+    interface ReviewerStatsRow {
+        Long getMemberId();
+        Long getReviewCount();
+        Long getRatingSum();
+    }
+
+    @Query("""
+                SELECT r.memberEmail.id AS memberId,
+                       COUNT(r) AS reviewCount,
+                       COALESCE(SUM(r.rating), 0) AS ratingSum
+                FROM Review r
+                GROUP BY r.memberEmail.id
+            """)
+    List<ReviewerStatsRow> findAllReviewerStats();
+
+
+    // ===== 리뷰 캘린더 =====
+    //  inserted_at 을 함수로 감싸지 않고 [from, to) 범위로 비교 → idx_member_date (member_email, inserted_at) 범위 스캔
+    interface CalendarReviewRow {
+        Integer getId();
+        String getFacilityName();
+        Integer getRating();
+        String getContent();
+        String getDate();       // "2025-01-15"
+        Long getFacilityId();
+    }
+
+    @Query(value = """
+            SELECT r.id AS id, pf.name AS facilityName, r.rating AS rating, r.review AS content,
+                   DATE_FORMAT(r.inserted_at, '%Y-%m-%d') AS date, r.facility_id AS facilityId
+            FROM review r
+            JOIN pet_facility pf ON r.facility_id = pf.id
+            WHERE r.member_email = :email
+              AND r.inserted_at >= :from
+              AND r.inserted_at < :to
+            ORDER BY r.inserted_at DESC
+            """, nativeQuery = true)
+    List<CalendarReviewRow> findCalendarRows(@Param("email") String email,
+                                             @Param("from") LocalDateTime from,
+                                             @Param("to") LocalDateTime to);
+
+    // ===== 시설 평점 통계 =====
+    //  피드는 페이지 단위라 총 개수/평균/분포는 GROUP BY 한 번으로 따로 (idx_review_facility_likes 선두 facility_id)
+    interface RatingCountRow {
+        Integer getRating();
+        Long getCount();
+    }
+
+    @Query("SELECT r.rating AS rating, COUNT(r) AS count FROM Review r WHERE r.petFacility.id = :facilityId GROUP BY r.rating")
+    List<RatingCountRow> countByRating(@Param("facilityId") Long facilityId);
+
+    // ===== 시설 리뷰 피드 (키셋 페이지) =====
+    //  id 는 insertedAt 순으로 증가 → id DESC 가 최신순, cursor = 이전 페이지 마지막 id
+    //  자식(파일/태그/아바타)은 페이지 id 로 IN 일괄 조회 → 페이지당 쿼리 수 고정
+    interface ReviewFeedRow {
+        Integer getId();
+        String getReview();
+        Integer getRating();
+        Instant getInsertedAt();
+        Integer getLikeCount();
+        Long getMemberId();
+        String getMemberEmail();
+        String getNickName();
+        Long getFacilityId();
+        String getFacilityName();
+        String getSidoName();
+        String getSigunguName();
+    }
+
+    @Query("""
+                SELECT r.id AS id, r.review AS review, r.rating AS rating, r.insertedAt AS insertedAt,
+                       r.likeCount AS likeCount,
+                       m.id AS memberId, m.email AS memberEmail, m.nickName AS nickName,
+                       f.id AS facilityId, f.name AS facilityName,
+                       f.sidoName AS sidoName, f.sigunguName AS sigunguName
+                FROM Review r
+                JOIN r.memberEmail m
+                JOIN r.petFacility f
+                WHERE f.id = :facilityId
+                  AND r.id < :cursor
+                ORDER BY r.id DESC
+            """)
+    List<ReviewFeedRow> findFeedPage(@Param("facilityId") Long facilityId,
+                                     @Param("cursor") Integer cursor,
+                                     Pageable pageable);
+
+    interface ReviewTagRow {
+        Integer getReviewId();
+        Integer getTagId();
+        String getTagName();
+    }
+
+    @Query("""
+                SELECT r.id AS reviewId, t.id AS tagId, t.name AS tagName
+                FROM Review r
+                JOIN r.tags t
+                WHERE r.id IN :reviewIds
+            """)
+    List<ReviewTagRow> findTagRowsByReviewIdIn(@Param("reviewIds") Collection<Integer> reviewIds);
+
+    // TagIndex 적재용 (리뷰-시설-태그 전체)
+    interface ReviewTagFacilityRow {
+        Integer getReviewId();
+        Long getFacilityId();
+        Integer getTagId();
+    }
+
+    @Query("""
+                SELECT r.id AS reviewId, r.petFacility.id AS facilityId, t.id AS tagId
+                FROM Review r
+                JOIN r.tags t
+            """)
+    List<ReviewTagFacilityRow> findAllReviewTagFacilityRows();
+
+    // ===== 관리자 내보내기 (AdminExportService) =====
+    //  엔티티가 아닌 projection + fetch size → 영속성 컨텍스트에 쌓이지 않고 커서로 조금씩 읽는다
+    interface ReviewExportRow {
+        Integer getId();
+        Long getFacilityId();
+        String getFacilityName();
+        String getMemberEmail();
+        Integer getRating();
+        Integer getLikeCount();
+        String getReview();
+        Instant getInsertedAt();
+    }
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+                SELECT r.id AS id, pf.id AS facilityId, pf.name AS facilityName, m.email AS memberEmail,
+                       r.rating AS rating, r.likeCount AS likeCount, r.review AS review, r.insertedAt AS insertedAt
+                FROM Review r
+                JOIN r.petFacility pf
+                JOIN r.memberEmail m
+                ORDER BY r.id
+            """)
+    Stream<ReviewExportRow> streamAllForExport();
 }
@@ -2,7 +2,10 @@ package com.example.backend.review.repository;
 
 import com.example.backend.review.entity.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -12,4 +15,16 @@ public interface TagRepository extends JpaRepository<Tag, Integer> {
 
     // Set<String> names -> List<String> names로 변경 (JPA 쿼리 메서드 규칙)
     List<Tag> findAllByNameIn(Set<String> names);
+
+    // TagDictionary 적재용 (엔티티/연관관계 로딩 없이 id, name 만)
+    interface TagRow {
+        Integer getId();
+        String getName();
+    }
+
+    @Query("SELECT t.id AS id, t.name AS name FROM Tag t")
+    List<TagRow> findAllRows();
+
+    @Query("SELECT t.id AS id, t.name AS name FROM Tag t WHERE t.name IN :names")
+    List<TagRow> findRowsByNameIn(@Param("names") Collection<String> names);
 }
@@ -0,0 +1,72 @@
+package com.example.backend.review.service;
+
+import com.example.backend.review.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리뷰별 좋아요 수 캐시 (BoardLikeCounter 와 같은 방식).
+ * - 원본은 review.like_count (토글 시 같은 트랜잭션에서 ±1)
+ * - 토글 커밋 후 그 트랜잭션이 읽은 값으로 덮어쓰고, 짧은 TTL 로 순서 역전을 흡수
+ * - 항목이 너무 많아지면 통째로 비움 (다시 읽어도 PK 조회 1회)
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewLikeCounter {
+
+    private static final long TTL_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final int MAX_ENTRIES = 10_000;
+
+    private record Entry(int count, long loadedAt) {}
+
+    private final ReviewRepository reviewRepository;
+    private final Map<Integer, Entry> counts = new ConcurrentHashMap<>();
+
+    /** 캐시 → 없거나 만료면 review.like_count (리뷰가 없으면 0) */
+    public int get(Integer reviewId) {
+        long now = System.nanoTime();
+        Entry e = counts.get(reviewId);
+        if (e != null && now - e.loadedAt() < TTL_NANOS) {
+            return e.count();
+        }
+        int count = reviewRepository.findLikeCount(reviewId).orElse(0);
+        put(reviewId, count);
+        return count;
+    }
+
+    /** 여러 리뷰를 한 번에: 캐시에 없거나 만료된 것만 IN 조회 1회 (없는 리뷰는 0) */
+    public Map<Integer, Integer> getAll(Collection<Integer> reviewIds) {
+        long now = System.nanoTime();
+        Map<Integer, Integer> result = new LinkedHashMap<>();
+        List<Integer> misses = new ArrayList<>();
+        for (Integer reviewId : new LinkedHashSet<>(reviewIds)) {
+            if (reviewId == null) continue;
+            Entry e = counts.get(reviewId);
+            if (e != null && now - e.loadedAt() < TTL_NANOS) {
+                result.put(reviewId, e.count());
+            } else {
+                result.put(reviewId, 0);
+                misses.add(reviewId);
+            }
+        }
+        if (!misses.isEmpty()) {
+            for (ReviewRepository.LikeCountRow row : reviewRepository.findLikeCounts(misses)) {
+                int count = row.getLikeCount() == null ? 0 : row.getLikeCount();
+                put(row.getId(), count);
+                result.put(row.getId(), count);
+            }
+        }
+        return result;
+    }
+
+    public void put(Integer reviewId, int count) {
+        if (counts.size() >= MAX_ENTRIES) {
+            counts.clear();
+        }
+        counts.put(reviewId, new Entry(count, System.nanoTime()));
+    }
+}
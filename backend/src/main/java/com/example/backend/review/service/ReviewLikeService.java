@@ -1,17 +1,18 @@
 package com.example.backend.review.service;
 
+import com.example.backend.common.TxCallbacks;
+import com.example.backend.member.service.MemberIdResolver;
 import com.example.backend.review.dto.ReviewLikeDto;
 import com.example.backend.review.dto.ReviewLikeForm;
-import com.example.backend.review.entity.ReviewLike;
-import com.example.backend.review.entity.ReviewLikeId;
 import com.example.backend.review.repository.ReviewLikeRepository;
 import com.example.backend.review.repository.ReviewRepository;
-import com.example.backend.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.*;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -19,42 +20,44 @@ public class ReviewLikeService {
 
     private final ReviewLikeRepository reviewLikeRepository;
     private final ReviewRepository reviewRepository;
-    private final MemberRepository memberRepository;
+    private final MemberIdResolver memberIdResolver;
+    private final ReviewLikeCounter reviewLikeCounter;
+    private final ReviewLikedCache reviewLikedCache;
 
+    /**
+     * 좋아요 토글 (LikeService 와 같은 방식)
+     * - memberId 는 JWT uid 클레임에서 (회원 조회 없음)
+     * - DELETE / INSERT IGNORE 의 영향받은 행 수로 실제 변경 여부를 판단 → 동시 클릭에도 행 하나, 카운트 정확
+     * - review.like_count 는 같은 트랜잭션에서 ±1, 커밋 후 카운터/좋아요 여부 캐시 갱신
+     */
     public ReviewLikeDto update(ReviewLikeForm likeForm, Authentication authentication) {
         if (authentication == null) {
             throw new RuntimeException("로그인 하세요");
         }
-
-        String email = authentication.getName();
         Integer reviewId = likeForm.getReviewId();
+        Long memberId = memberIdResolver.resolve(authentication);
 
-        var reviewLikeOpt = reviewLikeRepository.findByReviewIdAndMemberEmail(reviewId, email);
-
-        if (reviewLikeOpt.isPresent()) {
-            reviewLikeRepository.delete(reviewLikeOpt.get());
+        int delta;
+        boolean liked;
+        if (reviewLikeRepository.deleteOne(reviewId, memberId) > 0) {
+            delta = -1;
+            liked = false;
         } else {
-            var review = reviewRepository.findById(reviewId)
-                    .orElseThrow(() -> new RuntimeException("게시물 없음"));
-            var member = memberRepository.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("회원 없음"));
-
-            ReviewLikeId reviewLikeId = new ReviewLikeId();
-            reviewLikeId.setReviewId(reviewId);
-            reviewLikeId.setMemberId(member.getId());
-
-            ReviewLike newLike = new ReviewLike();
-            newLike.setId(reviewLikeId);
-            newLike.setReview(review);
-            newLike.setMember(member);
+            delta = reviewLikeRepository.insertIgnore(reviewId, memberId);
+            liked = true;
+        }
 
-            reviewLikeRepository.save(newLike);
+        if (delta != 0) {
+            reviewRepository.adjustLikeCount(reviewId, delta);
         }
+        // 리뷰가 없으면 INSERT IGNORE 는 FK 오류 대신 0행 → 여기서 걸러서 롤백
+        int count = reviewRepository.findLikeCount(reviewId)
+                .orElseThrow(() -> new RuntimeException("게시물 없음"));
 
-        // 좋아요 최신 상태 조회
-        int count = reviewLikeRepository.countByReviewId(reviewId).intValue();
-        boolean liked = reviewLikeRepository.findByReviewIdAndMemberEmail(reviewId, email).isPresent();
-        Long memberId = memberRepository.findByEmail(email).map(m -> m.getId()).orElse(null);
+        TxCallbacks.afterCommit(() -> {
+            reviewLikeCounter.put(reviewId, count);
+            reviewLikedCache.apply(memberId, reviewId, liked);
+        });
 
         return ReviewLikeDto.builder()
                 .reviewId(reviewId)
@@ -66,23 +69,31 @@ public class ReviewLikeService {
 
     @Transactional(readOnly = true)
     public ReviewLikeDto get(Integer reviewId, Authentication authentication) {
-        int count = reviewLikeRepository.countByReviewId(reviewId).intValue();
-        boolean liked = false;
-        Long memberId = null;
-
-        if (authentication != null && authentication.isAuthenticated()) {
-            var memberOpt = memberRepository.findByEmail(authentication.getName());
-            if (memberOpt.isPresent()) {
-                memberId = memberOpt.get().getId();
-                liked = reviewLikeRepository.findByReviewIdAndMemberEmail(reviewId, authentication.getName()).isPresent();
-            }
-        }
+        Long memberId = memberIdResolver.resolveOptional(authentication).orElse(null);
 
         return ReviewLikeDto.builder()
                 .reviewId(reviewId)
                 .memberId(memberId)
-                .liked(liked)
-                .likeCount(count)
+                .liked(reviewLikedCache.isLiked(memberId, reviewId))
+                .likeCount(reviewLikeCounter.get(reviewId))
                 .build();
     }
+
+    // 리뷰 목록 한 페이지의 좋아요 수 + 여부 (수는 카운터에서 IN 조회 1회, 여부는 회원별 캐시, 비로그인은 liked=false)
+    @Transactional(readOnly = true)
+    public List<ReviewLikeDto> findLikes(Collection<Integer> reviewIds, Authentication authentication) {
+        Long memberId = memberIdResolver.resolveOptional(authentication).orElse(null);
+        Set<Integer> liked = memberId == null
+                ? Set.of()
+                : new HashSet<>(reviewLikedCache.likedAmong(memberId, reviewIds));
+
+        List<ReviewLikeDto> result = new ArrayList<>();
+        reviewLikeCounter.getAll(reviewIds).forEach((reviewId, count) -> result.add(ReviewLikeDto.builder()
+                .reviewId(reviewId)
+                .memberId(memberId)
+                .liked(liked.contains(reviewId))
+                .likeCount(count)
+                .build()));
+        return result;
+    }
 }
@@ -0,0 +1,105 @@
+package com.example.backend.review.service;
+
+import com.example.backend.review.repository.ReviewLikeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 회원별 "좋아요 누른 리뷰" 캐시.
+ * - 처음 조회 시 review_like(member_id) 인덱스로 그 회원의 review_id 를 한 번 읽어 정렬된 int[] 로 보관
+ *   → 리뷰 목록 한 페이지의 좋아요 여부를 쿼리 없이 이진 탐색으로 응답
+ * - 크기가 좋아요 수에 비례 (리뷰 id 최댓값과 무관), 배열은 바꾸지 않고 토글 시 새 배열로 교체 → 읽기에 잠금 없음
+ * - 토글 커밋 후 그 회원 배열만 갱신 (캐시에 없는 회원은 다음 조회 때 적재)
+ * - 적재 중에 같은 회원의 토글이 커밋되면 적재 결과를 캐시에 넣지 않는다 (회원 id 로 나눈 쓰기 카운터로 판단)
+ * - 최근 사용 순으로 MAX_MEMBERS 명까지만 보관
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewLikedCache {
+
+    private static final int MAX_MEMBERS = 5_000;
+    private static final int STRIPES = 64;
+
+    private final ReviewLikeRepository reviewLikeRepository;
+
+    private final Map<Long, int[]> byMember = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, int[]> eldest) {
+                    return size() > MAX_MEMBERS;
+                }
+            });
+    private final AtomicLongArray writes = new AtomicLongArray(STRIPES);
+
+    public boolean isLiked(Long memberId, Integer reviewId) {
+        if (memberId == null || reviewId == null) return false;
+        return Arrays.binarySearch(idsOf(memberId), reviewId) >= 0;
+    }
+
+    /** reviewIds 중 좋아요 누른 것만 (입력 순서 유지) */
+    public List<Integer> likedAmong(Long memberId, Collection<Integer> reviewIds) {
+        if (memberId == null || reviewIds.isEmpty()) return List.of();
+        int[] ids = idsOf(memberId);
+        List<Integer> result = new ArrayList<>();
+        for (Integer reviewId : reviewIds) {
+            if (reviewId != null && Arrays.binarySearch(ids, reviewId) >= 0) result.add(reviewId);
+        }
+        return result;
+    }
+
+    /** 토글 커밋 후 호출 */
+    public void apply(Long memberId, Integer reviewId, boolean liked) {
+        synchronized (byMember) {
+            writes.incrementAndGet(stripe(memberId));
+            int[] ids = byMember.get(memberId);
+            if (ids != null) byMember.put(memberId, liked ? with(ids, reviewId) : without(ids, reviewId));
+        }
+    }
+
+    private int[] idsOf(Long memberId) {
+        int[] ids = byMember.get(memberId);
+        if (ids != null) return ids;
+
+        long before = writes.get(stripe(memberId));
+        int[] loaded = reviewLikeRepository.findReviewIdsByMemberId(memberId).stream()
+                .filter(Objects::nonNull)
+                .mapToInt(Integer::intValue)
+                .sorted()
+                .distinct()
+                .toArray();
+        synchronized (byMember) {
+            if (writes.get(stripe(memberId)) != before) {
+                return loaded; // 적재 중 변경 → 이번 응답에만 사용
+            }
+            int[] prev = byMember.putIfAbsent(memberId, loaded);
+            return prev != null ? prev : loaded;
+        }
+    }
+
+    private static int[] with(int[] ids, int reviewId) {
+        int pos = Arrays.binarySearch(ids, reviewId);
+        if (pos >= 0) return ids;
+        int at = -pos - 1;
+        int[] next = new int[ids.length + 1];
+        System.arraycopy(ids, 0, next, 0, at);
+        next[at] = reviewId;
+        System.arraycopy(ids, at, next, at + 1, ids.length - at);
+        return next;
+    }
+
+    private static int[] without(int[] ids, int reviewId) {
+        int pos = Arrays.binarySearch(ids, reviewId);
+        if (pos < 0) return ids;
+        int[] next = new int[ids.length - 1];
+        System.arraycopy(ids, 0, next, 0, pos);
+        System.arraycopy(ids, pos + 1, next, pos, ids.length - pos - 1);
+        return next;
+    }
+
+    private static int stripe(Long memberId) {
+        return (int) Math.floorMod(memberId, (long) STRIPES);
+    }
+}
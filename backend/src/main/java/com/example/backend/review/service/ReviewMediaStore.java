@@ -0,0 +1,197 @@
+package com.example.backend.review.service;
+
+import com.example.backend.common.TxCallbacks;
+import com.example.backend.review.entity.ReviewFileId;
+import com.example.backend.review.repository.ReviewFileRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 리뷰 사진 S3 업로드/삭제.
+ * - 요청 중에는 업로드 파일을 임시 파일로 옮겨만 두고(메모리에 올리지 않음) 커밋 후 전용 풀에서 병렬 업로드
+ *   → 리뷰 저장 트랜잭션이 S3 응답을 기다리지 않는다. 롤백되면 임시 파일만 지운다.
+ * - 업로드 실패 시 review_file 행을 지워 깨진 이미지가 남지 않게 한다.
+ * - 삭제는 커밋 후 DeleteObjects 로 최대 1000 키씩 묶어서 한 번에
+ * - 큐는 무제한 (대기 작업은 디스크의 임시 파일 경로만 들고 있음). 완료 콜백은 아직 요청 스레드가 JDBC 연결을
+ *   잡고 있는 시점이라 S3 작업을 그 자리에서 돌리지 않는다. 종료 중이라 거절되면 로그 + 행/임시 파일 정리만
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewMediaStore {
+
+    private static final int DELETE_BATCH = 1_000; // DeleteObjects 한 번의 최대 키 수
+
+    private final S3Client s3Client;
+    private final ReviewFileRepository reviewFileRepository;
+    private final TransactionTemplate tx;
+
+    @Value("${aws.s3.bucket.name}")
+    private String bucketName;
+
+    @Value("${app.review.media.concurrency:4}")
+    private int concurrency;
+
+    private ThreadPoolExecutor executor;
+    // 완료 콜백 안에서도 원래 트랜잭션에 참여하지 않도록 항상 새 트랜잭션
+    private TransactionTemplate cleanupTx;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger seq = new AtomicInteger();
+        executor = new ThreadPoolExecutor(concurrency, concurrency, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                r -> {
+                    Thread t = new Thread(r, "review-media-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+        executor.allowCoreThreadTimeOut(true);
+
+        cleanupTx = new TransactionTemplate(tx.getTransactionManager());
+        cleanupTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("review media executor did not finish: {} tasks dropped", executor.shutdownNow().size());
+        }
+    }
+
+    public static String objectKey(Integer reviewId, String name) {
+        return "prj3/review/" + reviewId + "/" + name;
+    }
+
+    // ──────────────────────────────────
+    // 업로드
+    // ──────────────────────────────────
+
+    /** review_file 행 저장과 같은 트랜잭션에서 호출 */
+    public void scheduleUpload(Integer reviewId, String name, MultipartFile file) {
+        Path staged = stage(file);
+        String contentType = file.getContentType();
+        TxCallbacks.afterCompletion(committed -> {
+            if (!committed) {
+                deleteQuietly(staged);
+                return;
+            }
+            try {
+                executor.execute(() -> upload(reviewId, name, staged, contentType));
+            } catch (RejectedExecutionException e) {
+                log.warn("review media upload rejected (shutting down): {}", objectKey(reviewId, name));
+                deleteQuietly(staged);
+                removeRow(reviewId, name);
+            }
+        });
+    }
+
+    /** 요청이 끝나면 multipart 임시 파일이 지워지므로 우리 임시 파일로 옮겨 둔다 (같은 디스크면 이름만 변경) */
+    private static Path stage(MultipartFile file) {
+        try {
+            Path staged = Files.createTempFile("review-media-", ".part");
+            file.transferTo(new File(staged.toString()));
+            return staged;
+        } catch (IOException e) {
+            throw new RuntimeException("파일 업로드 실패: " + file.getOriginalFilename(), e);
+        }
+    }
+
+    private void upload(Integer reviewId, String name, Path staged, String contentType) {
+        String key = objectKey(reviewId, name);
+        try {
+            PutObjectRequest.Builder request = PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .acl(ObjectCannedACL.PUBLIC_READ);
+            if (contentType != null) request.contentType(contentType);
+
+            s3Client.putObject(request.build(), RequestBody.fromFile(staged));
+        } catch (Exception e) {
+            log.warn("review media upload failed: {}", key, e);
+            removeRow(reviewId, name);
+        } finally {
+            deleteQuietly(staged);
+        }
+    }
+
+    private void removeRow(Integer reviewId, String name) {
+        ReviewFileId id = new ReviewFileId();
+        id.setReviewId(reviewId);
+        id.setName(name);
+        try {
+            cleanupTx.executeWithoutResult(status -> reviewFileRepository.deleteById(id));
+        } catch (Exception e) {
+            log.warn("review_file cleanup failed: review={}, name={}", reviewId, name, e);
+        }
+    }
+
+    // ──────────────────────────────────
+    // 삭제
+    // ──────────────────────────────────
+
+    /** 커밋 후 S3 객체 일괄 삭제 (롤백되면 아무것도 지우지 않음) */
+    public void scheduleDelete(Collection<String> objectKeys) {
+        if (objectKeys == null || objectKeys.isEmpty()) return;
+        List<String> keys = List.copyOf(objectKeys);
+        TxCallbacks.afterCompletion(committed -> {
+            if (!committed) return;
+            try {
+                executor.execute(() -> deleteObjects(keys));
+            } catch (RejectedExecutionException e) {
+                log.warn("review media delete rejected (shutting down): {}", keys);
+            }
+        });
+    }
+
+    private void deleteObjects(List<String> keys) {
+        for (int from = 0; from < keys.size(); from += DELETE_BATCH) {
+            List<ObjectIdentifier> ids = keys.subList(from, Math.min(from + DELETE_BATCH, keys.size())).stream()
+                    .map(k -> ObjectIdentifier.builder().key(k).build())
+                    .toList();
+            try {
+                DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                        .bucket(bucketName)
+                        .delete(Delete.builder().objects(ids).quiet(true).build())
+                        .build());
+                if (response.hasErrors()) {
+                    response.errors().forEach(err ->
+                            log.warn("review media delete failed: {} ({})", err.key(), err.message()));
+                }
+            } catch (Exception e) {
+                log.warn("review media delete failed: {} keys", ids.size(), e);
+            }
+        }
+    }
+
+    // ──────────────────────────────────
+    // 유틸
+    // ──────────────────────────────────
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.debug("temp file delete failed: {}", path, e);
+        }
+    }
+}
@@ -16,6 +16,8 @@ import com.example.backend.review.repository.ReviewFileRepository;
 import com.example.backend.review.repository.ReviewReportRepository;
 import com.example.backend.review.repository.ReviewRepository;
 import com.example.backend.review.repository.TagRepository;
+import com.example.backend.review.utill.TagParser;
+import com.example.backend.member.repository.MemberFileRepository;
 import com.example.backend.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -28,11 +30,6 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
-import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 import java.time.Instant;
 import java.util.*;
@@ -48,60 +45,23 @@ public class ReviewService {
     private final ReviewFileRepository reviewFileRepository;
     private final TagRepository tagRepository;
     private final PetFacilityRepository petFacilityRepository;
-    private final S3Client s3Client;
     private final ReviewReportRepository reviewReportRepository;
+    private final ReviewerStatsStore reviewerStatsStore;
+    private final TagDictionary tagDictionary;
+    private final TagIndex tagIndex;
+    private final TagParser tagParser;
+    private final ReviewMediaStore reviewMediaStore;
+    private final MemberFileRepository memberFileRepository;
 
     @Value("${image.prefix}")
     private String imagePrefix;
 
-    @Value("${aws.s3.bucket.name}")
-    private String bucketName;
-
-    // S3에 파일 업로드
-    private void uploadFile(MultipartFile file, String objectKey) {
-        try {
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(objectKey)
-                    .acl(ObjectCannedACL.PUBLIC_READ)
-                    .build();
-
-            s3Client.putObject(putObjectRequest,
-                    RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
-        } catch (Exception e) {
-            throw new RuntimeException("파일 업로드 실패: " + objectKey, e);
-        }
-    }
-
-    // ✨ S3에서 파일 삭제 메서드 추가
-    private void deleteFileFromS3(String objectKey) {
-        try {
-            DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(objectKey)
-                    .build();
-
-            s3Client.deleteObject(deleteObjectRequest);
-            System.out.println("S3 파일 삭제 성공: " + objectKey);
-        } catch (Exception e) {
-            System.out.println("S3 파일 삭제 실패: " + objectKey + ", 오류: " + e.getMessage());
-        }
-    }
-
-    // 리뷰 사진 저장 (DB 저장 + S3 업로드)
+    // 리뷰 사진 저장 (DB 저장 + 커밋 후 S3 업로드 예약)
     private void saveFiles(Review review, List<MultipartFile> files) {
         if (files != null && !files.isEmpty()) {
             for (MultipartFile file : files) {
                 if (file != null && file.getSize() > 0) {
-                    String originalFileName = file.getOriginalFilename();
-
-                    // ✨ 파일명을 안전하게 변환
-                    String safeFileName = createSafeFileName(originalFileName);
-                    String uuidFileName = UUID.randomUUID().toString() + "_" + safeFileName;
-
-                    System.out.println("원본 파일명: " + originalFileName);
-                    System.out.println("안전한 파일명: " + safeFileName);
-                    System.out.println("최종 파일명: " + uuidFileName);
+                    String uuidFileName = createSafeFileName(file.getOriginalFilename());
 
                     ReviewFile reviewFile = new ReviewFile();
                     ReviewFileId reviewFileId = new ReviewFileId();
@@ -111,68 +71,53 @@ public class ReviewService {
                     reviewFile.setId(reviewFileId);
                     reviewFileRepository.save(reviewFile);
 
-                    String objectKey = "prj3/review/" + review.getId() + "/" + uuidFileName;
-                    uploadFile(file, objectKey);
+                    reviewMediaStore.scheduleUpload(review.getId(), uuidFileName, file);
                 }
             }
         }
     }
 
-
+    // UUID_원본이름 (경로 구분자 제거, name 컬럼 300자 안쪽)
     private String createSafeFileName(String originalFileName) {
-        if (originalFileName == null) {
-            return "file";
+        String name = originalFileName == null ? "" : originalFileName.replaceAll("[\\\\/]", "_").trim();
+        if (name.isEmpty()) {
+            name = "file";
         }
-
-        return UUID.randomUUID().toString() + "_" + originalFileName;
+        if (name.length() > 200) {
+            name = name.substring(name.length() - 200);
+        }
+        return UUID.randomUUID() + "_" + name;
     }
 
     private void newFiles(Review review, List<MultipartFile> newFiles) {
         saveFiles(review, newFiles);
     }
 
-    // ✨ 수정된 deleteFiles 메서드
+    // 리뷰 사진 삭제 (DB 에서 지우고 S3 는 커밋 후 한 번에)
     private void deleteFiles(Review review, List<String> deleteFileNames) {
         if (deleteFileNames == null || deleteFileNames.isEmpty()) {
             return;
         }
 
-        System.out.println("=== 파일 삭제 시작 (수정된 로직) ===");
-        System.out.println("Review ID: " + review.getId());
-        System.out.println("삭제 요청 파일명 리스트: " + deleteFileNames);
-
         // 1. 삭제할 파일 목록을 먼저 찾습니다. (ConcurrentModificationException 방지)
         List<ReviewFile> filesToDelete = review.getFiles().stream()
                 .filter(reviewFile -> deleteFileNames.contains(reviewFile.getId().getName()))
                 .collect(Collectors.toList());
 
         if (filesToDelete.isEmpty()) {
-            System.out.println("DB에서 삭제할 파일을 찾지 못했습니다.");
             return;
         }
 
-        System.out.println("DB에서 삭제 대상으로 찾은 파일들: " + filesToDelete.stream().map(f -> f.getId().getName()).collect(Collectors.toList()));
-
-        // 2. 찾은 파일들을 S3와 DB에서 삭제합니다.
+        // 2. DB 에서 삭제, S3 키는 모아서 커밋 후 삭제
+        List<String> objectKeys = new ArrayList<>(filesToDelete.size());
         for (ReviewFile fileToDelete : filesToDelete) {
-            String fileName = fileToDelete.getId().getName();
-            String objectKey = "prj3/review/" + review.getId() + "/" + fileName;
-
-            try {
-                // S3에서 삭제
-                deleteFileFromS3(objectKey);
-                // DB에서 삭제
-                reviewFileRepository.delete(fileToDelete);
-                System.out.println("성공적으로 삭제됨: " + fileName);
-            } catch (Exception e) {
-                System.err.println("파일 삭제 중 오류 발생: " + fileName + ", 오류: " + e.getMessage());
-            }
+            objectKeys.add(ReviewMediaStore.objectKey(review.getId(), fileToDelete.getId().getName()));
+            reviewFileRepository.delete(fileToDelete);
         }
+        reviewMediaStore.scheduleDelete(objectKeys);
 
         // 3. 엔티티의 연관관계 컬렉션에서도 제거합니다.
         review.getFiles().removeAll(filesToDelete);
-
-        System.out.println("=== 파일 삭제 완료 ===");
     }
 
     // 리뷰 저장
@@ -195,6 +140,8 @@ public class ReviewService {
         review.setTags(tags);
 
         Review savedReview = reviewRepository.save(review);
+        reviewerStatsStore.onCreated(member.getId(), savedReview.getRating());
+        tagIndex.onReviewTagged(savedReview.getId(), petFacility.getId(), tagIds(tags));
         saveFiles(review, dto.getFiles());
         // 포커스 옮기기 위한 새 리뷰 id 리턴
         return savedReview.getId();
@@ -209,12 +156,14 @@ public class ReviewService {
             throw new SecurityException("자신이 작성한 리뷰만 수정할 수 있습니다.");
         }
 
+        reviewerStatsStore.onRatingChanged(review.getMemberEmail().getId(), review.getRating(), dto.getRating());
         review.setReview(dto.getReview());
         review.setRating(dto.getRating());
 
         review.getTags().clear();
         Set<Tag> tags = processTags(dto.getTagNames());
         review.setTags(tags);
+        tagIndex.onReviewTagged(review.getId(), review.getPetFacility().getId(), tagIds(tags));
 
         List<String> deleteFileNames = dto.getDeleteFileNames();
         List<MultipartFile> newFiles = dto.getFiles();
@@ -246,13 +195,16 @@ public class ReviewService {
         reviewReportRepository.deleteByReview_Id(review.getId());
         // 즉 본인이 쓴 글 지워도 관리자 신고 목록에서 사라지게 됨
 
+        List<String> objectKeys = new ArrayList<>();
         for (ReviewFile file : review.getFiles()) {
-            String objectKey = "prj3/review/" + id + "/" + file.getId().getName();
-            deleteFileFromS3(objectKey);
+            objectKeys.add(ReviewMediaStore.objectKey(id, file.getId().getName()));
             reviewFileRepository.delete(file);
         }
+        reviewMediaStore.scheduleDelete(objectKeys);
 
         reviewRepository.deleteById(id);
+        reviewerStatsStore.onDeleted(review.getMemberEmail().getId(), review.getRating());
+        tagIndex.onReviewDeleted(id);
     }
 
     // 특정 시설 리뷰 목록 조회 (최신순)
@@ -263,6 +215,94 @@ public class ReviewService {
                 .collect(Collectors.toList());
     }
 
+    // ✅ 특정 시설 리뷰 피드 (최신순 키셋 페이지, cursor = 이전 페이지의 nextCursor)
+    //  - 본문(좋아요 수 포함) 1 + 파일 1 + 태그 1 + 아바타 1 = 페이지 크기와 무관하게 쿼리 4개
+    @Transactional(readOnly = true)
+    public Map<String, Object> findFeedByFacilityId(Long facilityId, Integer cursor, Integer size) {
+        int pageSize = (size == null || size <= 0 || size > 50) ? 10 : size;
+        int after = (cursor == null) ? Integer.MAX_VALUE : cursor;
+
+        List<ReviewRepository.ReviewFeedRow> rows =
+                reviewRepository.findFeedPage(facilityId, after, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) rows = rows.subList(0, pageSize);
+
+        List<Integer> reviewIds = rows.stream().map(ReviewRepository.ReviewFeedRow::getId).toList();
+        Map<Integer, List<String>> filesByReview = new HashMap<>();
+        Map<Integer, List<TagDto>> tagsByReview = new HashMap<>();
+        Map<Long, String> avatarByMember = new HashMap<>();
+
+        if (!reviewIds.isEmpty()) {
+            for (ReviewFileRepository.ReviewFileRow f : reviewFileRepository.findRowsByReviewIdIn(reviewIds)) {
+                filesByReview.computeIfAbsent(f.getReviewId(), k -> new ArrayList<>())
+                        .add(imagePrefix + "prj3/review/" + f.getReviewId() + "/" + f.getName());
+            }
+            for (ReviewRepository.ReviewTagRow t : reviewRepository.findTagRowsByReviewIdIn(reviewIds)) {
+                tagsByReview.computeIfAbsent(t.getReviewId(), k -> new ArrayList<>())
+                        .add(TagDto.builder().id(t.getTagId()).name(t.getTagName()).build());
+            }
+            Set<Long> memberIds = rows.stream()
+                    .map(ReviewRepository.ReviewFeedRow::getMemberId)
+                    .collect(Collectors.toSet());
+            for (MemberFileRepository.AvatarView a : memberFileRepository.findFirstNamesByMemberIdIn(memberIds)) {
+                avatarByMember.put(a.getMemberId(), imagePrefix + "prj3/member/" + a.getMemberId() + "/" + a.getName());
+            }
+        }
+
+        List<ReviewListDto> reviews = rows.stream().map(r -> {
+            ReviewerStatsStore.Stats reviewerStats = reviewerStatsStore.get(r.getMemberId());
+            List<TagDto> tags = tagsByReview.getOrDefault(r.getId(), new ArrayList<>());
+            tags.sort(Comparator.comparing(TagDto::getId));
+            return ReviewListDto.builder()
+                    .id(r.getId())
+                    .petFacility(PetFacilitySimpleDto.builder()
+                            .id(r.getFacilityId())
+                            .name(r.getFacilityName())
+                            .sidoName(r.getSidoName())
+                            .sigunguName(r.getSigunguName())
+                            .build())
+                    .memberEmail(r.getMemberEmail())
+                    .memberEmailNickName(r.getNickName())
+                    .review(r.getReview())
+                    .rating(r.getRating())
+                    .insertedAt(r.getInsertedAt())
+                    .profileImageUrl(avatarByMember.get(r.getMemberId()))
+                    .files(filesByReview.getOrDefault(r.getId(), List.of()))
+                    .memberId(r.getMemberId())
+                    .tags(tags)
+                    .likesCount(r.getLikeCount() == null ? 0L : r.getLikeCount().longValue())
+                    .countMemberReview(reviewerStats.reviewCount())
+                    .memberAverageRating(reviewerStats.averageRating())
+                    .build();
+        }).toList();
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("reviews", reviews);
+        result.put("nextCursor", hasNext ? reviews.get(reviews.size() - 1).getId() : null);
+        return result;
+    }
+
+    // ✅ 특정 시설 평점 통계 (총 리뷰 수, 평균 평점, 5~1점 분포) - 쿼리 1개
+    @Transactional(readOnly = true)
+    public Map<String, Object> findRatingStats(Long facilityId) {
+        Map<Integer, Long> distribution = new LinkedHashMap<>();
+        for (int rating = 5; rating >= 1; rating--) distribution.put(rating, 0L);
+
+        long total = 0, sum = 0;
+        for (ReviewRepository.RatingCountRow row : reviewRepository.countByRating(facilityId)) {
+            if (row.getRating() == null || row.getCount() == null) continue;
+            distribution.merge(row.getRating(), row.getCount(), Long::sum);
+            total += row.getCount();
+            sum += (long) row.getRating() * row.getCount();
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("total", total);
+        result.put("averageRating", total == 0 ? 0.0 : Math.round(sum * 10.0 / total) / 10.0);
+        result.put("distribution", distribution);
+        return result;
+    }
+
     // 최신 리뷰 N개 조회
     public List<ReviewListDto> getLatestReviews(Integer limit) {
         if (limit == null || limit <= 0) {
@@ -330,11 +370,8 @@ public class ReviewService {
                 .sigunguName(facility.getSigunguName())
                 .build();
 
-        Long memberId = review.getMemberEmail().getId();
-        Long countMemberReview = reviewRepository.countByMemberEmail_Id(memberId);
-        Double memberAverageRating = reviewRepository.findAverageRatingByMemberId(memberId).orElse(0.0);
-        // 소수 첫째자리 까지 반올림
-        double roundedRating = Math.round(memberAverageRating * 10.0) / 10.0;
+        // 작성자 통계는 메모리 저장소에서 (행마다 COUNT/AVG 쿼리 없음, 평균은 소수 첫째자리 반올림)
+        ReviewerStatsStore.Stats reviewerStats = reviewerStatsStore.get(review.getMemberEmail().getId());
 
         return ReviewListDto.builder()
                 .id(review.getId())
@@ -348,24 +385,26 @@ public class ReviewService {
                 .files(fileUrls)
                 .memberId(review.getMemberEmail().getId())
                 .tags(tagDtos)
-                .likesCount((long) (review.getLikes() != null ? review.getLikes().size() : 0))
-                .countMemberReview(countMemberReview)
-                .memberAverageRating(roundedRating)
+                .likesCount(review.getLikeCount() == null ? 0L : review.getLikeCount().longValue())
+                .countMemberReview(reviewerStats.reviewCount())
+                .memberAverageRating(reviewerStats.averageRating())
                 .build();
     }
 
-    // 태그 저장 헬퍼
+    // 태그 저장 헬퍼 (TagParser 로 정리 → TagDictionary 로 id 확정 → 엔티티 조회 없이 참조만 연결)
     private Set<Tag> processTags(List<String> tagNames) {
         Set<Tag> tags = new HashSet<>();
-        if (tagNames != null && !tagNames.isEmpty()) {
-            for (String tagName : tagNames) {
-                if (tagName != null && !tagName.trim().isEmpty()) {
-                    Tag tag = tagRepository.findByName(tagName.trim())
-                            .orElseGet(() -> tagRepository.save(new Tag(tagName.trim())));
-                    tags.add(tag);
-                }
+        Set<String> names = tagParser.parseTags(tagNames);
+        if (!names.isEmpty()) {
+            for (Integer tagId : tagDictionary.resolve(names).values()) {
+                tags.add(tagRepository.getReferenceById(tagId));
             }
         }
         return tags;
     }
-}
\ No newline at end of file
+
+    // 태그 참조 → id (프록시 초기화 없음)
+    private static List<Integer> tagIds(Set<Tag> tags) {
+        return tags.stream().map(Tag::getId).toList();
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.backend.review.service;
+
+import com.example.backend.common.TxCallbacks;
+import com.example.backend.review.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 리뷰 작성자 통계 (리뷰 수, 평점 합) 인메모리 저장소.
+ * - 기동 시 GROUP BY 한 번으로 전체 적재, 이후 저장/수정/삭제 커밋 후 증감만 반영
+ *   → 리뷰 목록 DTO 변환에서 행마다 COUNT/AVG 쿼리를 날리지 않는다.
+ * - 없는 회원 = 리뷰 0건 (조회 시 DB 를 보지 않음)
+ * - 수동 데이터 수정 등으로 어긋날 수 있으므로 하루 한 번 다시 적재
+ * - 재적재 중(DB 읽는 동안) 들어온 증감은 모아 두었다가 새 값에 다시 더함 → 재적재가 증감을 덮어쓰지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewerStatsStore {
+
+    /** 불변 스냅샷 */
+    public record Stats(long reviewCount, long ratingSum) {
+        static final Stats EMPTY = new Stats(0, 0);
+
+        /** 평균 평점 (소수 첫째 자리 반올림) */
+        public double averageRating() {
+            if (reviewCount <= 0) return 0.0;
+            return Math.round(ratingSum * 10.0 / reviewCount) / 10.0;
+        }
+    }
+
+    private final ReviewRepository reviewRepository;
+    private final Map<Long, Stats> stats = new ConcurrentHashMap<>();
+
+    // 재적재 중에만 non-null (deltaLock 으로 보호)
+    private final Object deltaLock = new Object();
+    private List<Runnable> pendingDeltas;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.review.stats-reload-cron:0 23 4 * * *}")
+    public synchronized void reload() {
+        synchronized (deltaLock) {
+            pendingDeltas = new ArrayList<>();
+        }
+        Map<Long, Stats> fresh = new ConcurrentHashMap<>();
+        try {
+            for (ReviewRepository.ReviewerStatsRow row : reviewRepository.findAllReviewerStats()) {
+                if (row.getMemberId() == null) continue;
+                fresh.put(row.getMemberId(), new Stats(
+                        row.getReviewCount() == null ? 0 : row.getReviewCount(),
+                        row.getRatingSum() == null ? 0 : row.getRatingSum()));
+            }
+            synchronized (deltaLock) {
+                stats.keySet().retainAll(fresh.keySet());
+                stats.putAll(fresh);
+                // 읽는 동안 커밋된 증감
+                pendingDeltas.forEach(Runnable::run);
+            }
+        } finally {
+            synchronized (deltaLock) {
+                pendingDeltas = null;
+            }
+        }
+        log.info("reviewer stats loaded: {} members", fresh.size());
+    }
+
+    public Stats get(Long memberId) {
+        if (memberId == null) return Stats.EMPTY;
+        return stats.getOrDefault(memberId, Stats.EMPTY);
+    }
+
+    // ──────────────────────────────────
+    // 증감 (ReviewService 저장/수정/삭제에서 호출, 커밋 후 반영)
+    // ──────────────────────────────────
+    public void onCreated(Long memberId, Integer rating) {
+        TxCallbacks.afterCommit(() -> add(memberId, 1, nz(rating)));
+    }
+
+    public void onRatingChanged(Long memberId, Integer oldRating, Integer newRating) {
+        int delta = nz(newRating) - nz(oldRating);
+        if (delta != 0) TxCallbacks.afterCommit(() -> add(memberId, 0, delta));
+    }
+
+    public void onDeleted(Long memberId, Integer rating) {
+        TxCallbacks.afterCommit(() -> add(memberId, -1, -nz(rating)));
+    }
+
+    /** 지금 반영하고, 재적재 중이면 새 값에도 다시 더하도록 보관 */
+    private void add(Long memberId, long countDelta, long sumDelta) {
+        if (memberId == null) return;
+        Runnable delta = () -> apply(memberId, countDelta, sumDelta);
+        synchronized (deltaLock) {
+            delta.run();
+            if (pendingDeltas != null) pendingDeltas.add(delta);
+        }
+    }
+
+    private void apply(Long memberId, long countDelta, long sumDelta) {
+        stats.compute(memberId, (k, s) -> {
+            Stats cur = s == null ? Stats.EMPTY : s;
+            long count = Math.max(0, cur.reviewCount() + countDelta);
+            long sum = count == 0 ? 0 : Math.max(0, cur.ratingSum() + sumDelta);
+            return count == 0 ? null : new Stats(count, sum);
+        });
+    }
+
+    private static int nz(Integer v) {
+        return v == null ? 0 : v;
+    }
+}
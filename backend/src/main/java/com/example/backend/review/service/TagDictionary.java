@@ -0,0 +1,110 @@
+package com.example.backend.review.service;
+
+import com.example.backend.common.TxCallbacks;
+import com.example.backend.review.dto.TagDto;
+import com.example.backend.review.repository.TagRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 태그 사전 (name → id) — ReviewService / TagService 공용
+ * - 기동 시 tags 전체 적재, 이후 새 태그는 다중 행 INSERT ... ON DUPLICATE KEY 한 번으로 생성
+ * - 아는 태그만 있으면 DB 를 보지 않는다. 모르는 태그가 있으면 INSERT 1 + id 조회 1.
+ * - 새 태그는 커밋 후에 사전에 올린다 (롤백된 id 를 다른 요청이 참조하지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagDictionary {
+
+    private static final int MAX_NAME_LENGTH = 50; // tags.name 컬럼 길이
+
+    private final TagRepository tagRepository;
+    private final Map<String, Integer> idByName = new ConcurrentHashMap<>();
+    private final Map<Integer, String> nameById = new ConcurrentHashMap<>();
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (TagRepository.TagRow row : tagRepository.findAllRows()) {
+            register(row.getName(), row.getId());
+        }
+        log.info("tag dictionary loaded: {} tags", idByName.size());
+    }
+
+    /** 이름 → id (생성하지 않음, 없으면 null) */
+    public Integer idOf(String name) {
+        return name == null ? null : idByName.get(name.trim());
+    }
+
+    public String nameOf(Integer id) {
+        return id == null ? null : nameById.get(id);
+    }
+
+    /** 전체 태그 (id 순) */
+    public List<TagDto> findAll() {
+        List<TagDto> result = new ArrayList<>(idByName.size());
+        idByName.forEach((name, id) -> result.add(TagDto.builder().id(id).name(name).build()));
+        result.sort(Comparator.comparing(TagDto::getId));
+        return result;
+    }
+
+    /**
+     * 이름 → id (없는 이름은 생성). 반드시 트랜잭션 안에서 호출.
+     * 입력 순서를 유지하고, 공백/빈 값/중복은 건너뛴다.
+     */
+    public Map<String, Integer> resolve(Collection<String> names) {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        List<String> unknown = new ArrayList<>();
+        for (String raw : names) {
+            if (raw == null) continue;
+            String name = raw.trim();
+            if (name.isEmpty() || name.length() > MAX_NAME_LENGTH || result.containsKey(name)) continue;
+            Integer id = idByName.get(name);
+            result.put(name, id);
+            if (id == null) unknown.add(name);
+        }
+        if (unknown.isEmpty()) return result;
+
+        insertMissing(unknown);
+        Map<String, Integer> created = new HashMap<>();
+        for (TagRepository.TagRow row : tagRepository.findRowsByNameIn(unknown)) {
+            created.put(row.getName(), row.getId());
+        }
+        created.forEach(result::put);
+        result.values().removeIf(Objects::isNull);
+
+        TxCallbacks.afterCommit(() -> created.forEach(this::register));
+        return result;
+    }
+
+    private void register(String name, Integer id) {
+        idByName.put(name, id);
+        nameById.put(id, name);
+    }
+
+    /** INSERT INTO tags (name) VALUES (?),(?),... ON DUPLICATE KEY UPDATE name = name */
+    private void insertMissing(List<String> names) {
+        StringBuilder sql = new StringBuilder("INSERT INTO tags (name) VALUES ");
+        for (int i = 0; i < names.size(); i++) {
+            if (i > 0) sql.append(", ");
+            sql.append("(?").append(i + 1).append(')');
+        }
+        sql.append(" ON DUPLICATE KEY UPDATE name = name");
+
+        Query q = em.createNativeQuery(sql.toString());
+        for (int i = 0; i < names.size(); i++) q.setParameter(i + 1, names.get(i));
+        q.executeUpdate();
+    }
+}
@@ -0,0 +1,243 @@
+package com.example.backend.review.service;
+
+import com.example.backend.common.TxCallbacks;
+import com.example.backend.petFacility.repository.PetFacilityRepository;
+import com.example.backend.review.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 태그 역색인 (리뷰 태그 → 시설 탐색)
+ * - 태그 → 시설 비트맵, 시설 → 태그별 리뷰 수 (태그 클라우드 + 검색 점수)
+ * - 시설 속성 비트맵 (시도 / 시도+시군구 / category2) → 태그 AND 필터까지 메모리에서 교집합
+ * - 기동 시 전체 적재, 이후 리뷰 저장/수정/삭제 커밋 후 해당 리뷰만 반영 (하루 한 번 전체 재적재)
+ * - 재적재 중(DB 읽는 동안) 들어온 증분은 모아 두었다가 새 색인에 다시 적용 → 재적재가 증분을 덮어쓰지 않음
+ * - 시설 id 가 조밀한 정수라 java.util.BitSet 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagIndex {
+
+    private final ReviewRepository reviewRepository;
+    private final PetFacilityRepository petFacilityRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 태그 → 시설
+    private Map<Integer, BitSet> facilitiesByTag = new HashMap<>();
+    // 시설 → (태그 → 그 태그가 달린 리뷰 수)  : 태그 클라우드 + 검색 점수
+    private Map<Long, Map<Integer, Integer>> tagCountsByFacility = new HashMap<>();
+    // 리뷰 → (시설, 태그들) : 수정/삭제 시 이전 상태 제거용
+    private Map<Integer, ReviewTags> tagsByReview = new HashMap<>();
+
+    // 시설 속성 필터
+    private Map<String, BitSet> facilitiesBySido = new HashMap<>();
+    private Map<String, BitSet> facilitiesBySigungu = new HashMap<>(); // key: 시도 + '\0' + 시군구
+    private Map<String, BitSet> facilitiesByCategory2 = new HashMap<>();
+
+    // 재적재 중에만 non-null (write lock 으로 보호)
+    private List<Runnable> pendingDeltas;
+
+    private record ReviewTags(long facilityId, int[] tagIds) {}
+
+    /** 검색 결과 한 건 (score = 요청 태그가 달린 리뷰 수 합) */
+    public record FacilityHit(long facilityId, int score) {}
+
+    // ──────────────────────────────────
+    // 적재
+    // ──────────────────────────────────
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.review.tag-index-reload-cron:0 33 4 * * *}")
+    public synchronized void reload() {
+        lock.writeLock().lock();
+        try {
+            pendingDeltas = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            load();
+        } finally {
+            lock.writeLock().lock();
+            try {
+                pendingDeltas = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("tag index loaded: {} tagged reviews, {} tags", tagsByReview.size(), facilitiesByTag.size());
+    }
+
+    private void load() {
+        Map<String, BitSet> bySido = new HashMap<>(), bySigungu = new HashMap<>(), byCategory2 = new HashMap<>();
+        for (PetFacilityRepository.FacilityFilterRow f : petFacilityRepository.findAllFilterRows()) {
+            int bit = bit(f.getId());
+            if (bit < 0) continue;
+            String sido = trim(f.getSidoName()), sigungu = trim(f.getSigunguName()), category2 = trim(f.getCategory2());
+            if (sido != null) bySido.computeIfAbsent(sido, k -> new BitSet()).set(bit);
+            if (sido != null && sigungu != null) bySigungu.computeIfAbsent(sigunguKey(sido, sigungu), k -> new BitSet()).set(bit);
+            if (category2 != null) byCategory2.computeIfAbsent(category2, k -> new BitSet()).set(bit);
+        }
+
+        Map<Integer, List<Integer>> tagIdsByReview = new HashMap<>();
+        Map<Integer, Long> facilityByReview = new HashMap<>();
+        for (ReviewRepository.ReviewTagFacilityRow row : reviewRepository.findAllReviewTagFacilityRows()) {
+            tagIdsByReview.computeIfAbsent(row.getReviewId(), k -> new ArrayList<>()).add(row.getTagId());
+            facilityByReview.put(row.getReviewId(), row.getFacilityId());
+        }
+
+        lock.writeLock().lock();
+        try {
+            facilitiesBySido = bySido;
+            facilitiesBySigungu = bySigungu;
+            facilitiesByCategory2 = byCategory2;
+            facilitiesByTag = new HashMap<>();
+            tagCountsByFacility = new HashMap<>();
+            tagsByReview = new HashMap<>();
+            tagIdsByReview.forEach((reviewId, tagIds) -> add(reviewId, facilityByReview.get(reviewId),
+                    tagIds.stream().mapToInt(Integer::intValue).toArray()));
+            // 읽는 동안 커밋된 변경 (remove → add 라 이미 읽힌 변경이 다시 적용돼도 결과는 같다)
+            pendingDeltas.forEach(Runnable::run);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ──────────────────────────────────
+    // 증분 반영 (ReviewService 에서 호출, 커밋 후)
+    // ──────────────────────────────────
+    public void onReviewTagged(Integer reviewId, Long facilityId, Collection<Integer> tagIds) {
+        int[] ids = tagIds.stream().filter(Objects::nonNull).mapToInt(Integer::intValue).distinct().toArray();
+        TxCallbacks.afterCommit(() -> applyDelta(() -> {
+            remove(reviewId);
+            add(reviewId, facilityId, ids);
+        }));
+    }
+
+    public void onReviewDeleted(Integer reviewId) {
+        TxCallbacks.afterCommit(() -> applyDelta(() -> remove(reviewId)));
+    }
+
+    /** 지금 색인에 반영하고, 재적재 중이면 새 색인에도 다시 적용하도록 보관 */
+    private void applyDelta(Runnable delta) {
+        lock.writeLock().lock();
+        try {
+            delta.run();
+            if (pendingDeltas != null) pendingDeltas.add(delta);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void add(Integer reviewId, Long facilityId, int[] tagIds) {
+        if (reviewId == null || facilityId == null || tagIds.length == 0) return;
+        int facilityBit = bit(facilityId);
+        if (facilityBit < 0) return;
+
+        tagsByReview.put(reviewId, new ReviewTags(facilityId, tagIds));
+        Map<Integer, Integer> counts = tagCountsByFacility.computeIfAbsent(facilityId, k -> new HashMap<>());
+        for (int tagId : tagIds) {
+            if (counts.merge(tagId, 1, Integer::sum) == 1) {
+                facilitiesByTag.computeIfAbsent(tagId, k -> new BitSet()).set(facilityBit);
+            }
+        }
+    }
+
+    private void remove(Integer reviewId) {
+        ReviewTags old = tagsByReview.remove(reviewId);
+        if (old == null) return;
+        Map<Integer, Integer> counts = tagCountsByFacility.get(old.facilityId());
+        for (int tagId : old.tagIds()) {
+            if (counts != null && counts.merge(tagId, -1, Integer::sum) <= 0) {
+                counts.remove(tagId);
+                BitSet facilities = facilitiesByTag.get(tagId);
+                if (facilities != null) facilities.clear(bit(old.facilityId()));
+            }
+        }
+        if (counts != null && counts.isEmpty()) tagCountsByFacility.remove(old.facilityId());
+    }
+
+    // ──────────────────────────────────
+    // 조회
+    // ──────────────────────────────────
+
+    /** 모든 태그가 달린 시설 ∩ 필터 → 점수 내림차순 (동점은 id 오름차순) */
+    public List<FacilityHit> search(Collection<Integer> tagIds, String sidoName, String sigunguName, String category2) {
+        if (tagIds.isEmpty()) return List.of();
+        lock.readLock().lock();
+        try {
+            BitSet result = null;
+            for (Integer tagId : tagIds) {
+                BitSet facilities = facilitiesByTag.get(tagId);
+                if (facilities == null) return List.of();
+                result = and(result, facilities);
+            }
+            String sido = trim(sidoName), sigungu = trim(sigunguName), cat = trim(category2);
+            if (sido != null) result = and(result, facilitiesBySido.getOrDefault(sido, new BitSet()));
+            if (sido != null && sigungu != null) {
+                result = and(result, facilitiesBySigungu.getOrDefault(sigunguKey(sido, sigungu), new BitSet()));
+            }
+            if (cat != null) result = and(result, facilitiesByCategory2.getOrDefault(cat, new BitSet()));
+
+            List<FacilityHit> hits = new ArrayList<>(result.cardinality());
+            for (int bit = result.nextSetBit(0); bit >= 0; bit = result.nextSetBit(bit + 1)) {
+                Map<Integer, Integer> counts = tagCountsByFacility.getOrDefault((long) bit, Map.of());
+                int score = 0;
+                for (Integer tagId : tagIds) score += counts.getOrDefault(tagId, 0);
+                hits.add(new FacilityHit(bit, score));
+            }
+            hits.sort(Comparator.comparingInt(FacilityHit::score).reversed()
+                    .thenComparingLong(FacilityHit::facilityId));
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 시설 태그 클라우드: 태그 id → 리뷰 수 (많은 순) */
+    public LinkedHashMap<Integer, Integer> tagCloud(Long facilityId, int limit) {
+        lock.readLock().lock();
+        try {
+            LinkedHashMap<Integer, Integer> result = new LinkedHashMap<>();
+            tagCountsByFacility.getOrDefault(facilityId, Map.of()).entrySet().stream()
+                    .sorted(Map.Entry.<Integer, Integer>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .limit(limit)
+                    .forEachOrdered(e -> result.put(e.getKey(), e.getValue()));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ──────────────────────────────────
+    // 유틸
+    // ──────────────────────────────────
+    private static BitSet and(BitSet acc, BitSet next) {
+        BitSet copy = (BitSet) next.clone();
+        if (acc != null) copy.and(acc);
+        return copy;
+    }
+
+    private static int bit(Long id) {
+        return (id == null || id < 0 || id > Integer.MAX_VALUE) ? -1 : id.intValue();
+    }
+
+    private static String sigunguKey(String sido, String sigungu) {
+        return sido + '\u0000' + sigungu;
+    }
+
+    private static String trim(String s) {
+        if (s == null) return null;
+        String t = s.trim();
+        return t.isEmpty() ? null : t;
+    }
+}
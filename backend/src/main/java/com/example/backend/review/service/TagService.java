@@ -1,6 +1,11 @@
 package com.example.backend.review.service;
 
+import com.example.backend.petFacility.dto.PetFacilitySearchDto;
+import com.example.backend.petFacility.entity.PetFacility;
+import com.example.backend.petFacility.repository.PetFacilityRepository;
+import com.example.backend.review.dto.TagCountDto;
 import com.example.backend.review.dto.TagDto;
+import com.example.backend.review.dto.TagFacilityDto;
 import com.example.backend.review.entity.Tag;
 import com.example.backend.review.repository.TagRepository;
 import com.example.backend.review.utill.TagParser;
@@ -8,8 +13,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -17,13 +22,14 @@ import java.util.stream.Collectors;
 public class TagService {
 
     private final TagRepository tagRepository;
-    private final TagParser tagParser = new TagParser();
+    private final TagDictionary tagDictionary;
+    private final TagIndex tagIndex;
+    private final PetFacilityRepository petFacilityRepository;
+    private final TagParser tagParser;
 
-    @Transactional(readOnly = true)
+    // 태그 사전(메모리)에서 바로 반환
     public List<TagDto> findAll() {
-        return tagRepository.findAll().stream()
-                .map(TagDto::fromEntity)
-                .collect(Collectors.toList());
+        return tagDictionary.findAll();
     }
 
     @Transactional(readOnly = true)
@@ -35,39 +41,72 @@ public class TagService {
     public List<TagDto> createTagsFromInput(String rawInput) {
         Set<String> validTagNames = tagParser.parseTags(rawInput);
 
-        return validTagNames.stream()
-                .map(tagName -> {
-                    Tag tag = tagRepository.findByName(tagName)
-                            .orElseGet(() -> tagRepository.save(Tag.builder()
-                                    .name(tagName)
-                                    .build()));
-                    return TagDto.fromEntity(tag);
-                })
+        return tagDictionary.resolve(validTagNames).entrySet().stream()
+                .map(e -> TagDto.builder().id(e.getValue()).name(e.getKey()).build())
                 .collect(Collectors.toList());
     }
 
     @Transactional
     public List<Tag> findOrCreateTags(Set<String> tagNames) {
-        // 기존에 있는 태그들 먼저 조회
-        List<Tag> existingTags = tagRepository.findAllByNameIn(tagNames);
-        Set<String> existingTagNames = existingTags.stream()
-                .map(Tag::getName)
-                .collect(Collectors.toSet());
+        // 사전에서 id 확정(모르는 태그는 한 번에 생성) → 조회 없이 참조만 반환
+        return tagDictionary.resolve(tagNames).values().stream()
+                .map(tagRepository::getReferenceById)
+                .collect(Collectors.toList());
+    }
+
+    // 태그 AND 검색 (+ 시도/시군구/카테고리 필터), 태그 리뷰 수 많은 순
+    @Transactional(readOnly = true)
+    public Map<String, Object> searchFacilities(String rawTags, String sidoName, String sigunguName,
+                                                String category2, int page, int size) {
+        Set<String> names = tagParser.parseTags(rawTags);
+        if (names.isEmpty()) {
+            throw new IllegalArgumentException("검색할 태그를 입력해주세요.");
+        }
+        // 시군구 색인은 시도+시군구 키라 시도 없이 걸 수 없음 (조용히 무시하지 않고 400)
+        if (sigunguName != null && !sigunguName.isBlank() && (sidoName == null || sidoName.isBlank())) {
+            throw new IllegalArgumentException("시군구로 찾으려면 시도도 함께 선택해주세요.");
+        }
 
-        // 새로 생성해야 할 태그들
-        Set<String> newTagNames = tagNames.stream()
-                .filter(name -> !existingTagNames.contains(name))
-                .collect(Collectors.toSet());
+        // 사전에 없는 태그가 하나라도 있으면 결과 없음
+        List<Integer> tagIds = new ArrayList<>();
+        for (String name : names) {
+            Integer tagId = tagDictionary.idOf(name);
+            if (tagId == null) return Map.of("facilities", List.of(), "total", 0);
+            tagIds.add(tagId);
+        }
 
-        // 새 태그들 생성
-        List<Tag> newTags = newTagNames.stream()
-                .map(name -> tagRepository.save(Tag.builder()
-                        .name(name)
-                        .build()))
-                .collect(Collectors.toList());
+        List<TagIndex.FacilityHit> hits = tagIndex.search(tagIds, sidoName, sigunguName, category2);
+        // page * size 가 int 를 넘을 수 있으므로 long 으로 계산 후 결과 수로 자른다
+        int from = (int) Math.min((long) page * size, hits.size());
+        int to = (int) Math.min((long) from + size, hits.size());
+        List<TagIndex.FacilityHit> pageHits = hits.subList(from, to);
+
+        Map<Long, PetFacility> facilities = petFacilityRepository
+                .findAllById(pageHits.stream().map(TagIndex.FacilityHit::facilityId).toList())
+                .stream()
+                .collect(Collectors.toMap(PetFacility::getId, Function.identity()));
+
+        List<TagFacilityDto> result = new ArrayList<>(pageHits.size());
+        for (TagIndex.FacilityHit hit : pageHits) {
+            PetFacility facility = facilities.get(hit.facilityId());
+            if (facility == null) continue; // 색인 재적재 전 삭제된 시설
+            result.add(TagFacilityDto.builder()
+                    .facility(PetFacilitySearchDto.from(facility))
+                    .matchedReviewCount(hit.score())
+                    .build());
+        }
+        return Map.of("facilities", result, "total", hits.size());
+    }
 
-        // 기존 태그 + 새 태그 합쳐서 반환
-        existingTags.addAll(newTags);
-        return existingTags;
+    // 시설 태그 클라우드 (리뷰에 많이 달린 태그 순)
+    public List<TagCountDto> facilityTagCloud(Long facilityId, int limit) {
+        List<TagCountDto> result = new ArrayList<>();
+        tagIndex.tagCloud(facilityId, limit).forEach((tagId, count) -> {
+            String name = tagDictionary.nameOf(tagId);
+            if (name != null) {
+                result.add(TagCountDto.builder().id(tagId).name(name).count(count).build());
+            }
+        });
+        return result;
     }
-}
\ No newline at end of file
+}
@@ -1,41 +1,84 @@
 package com.example.backend.review.utill;
 
+import org.springframework.stereotype.Component;
+
 import java.util.*;
-import java.util.stream.Collectors;
 
+/**
+ * 태그 입력 파서 (한 번 훑기)
+ * - 구분자: 공백류(스페이스, \t, \n, \u000B, \f, \r) 와 쉼표
+ * - 토큰마다 소문자화 후 영문/숫자/_/-/한글(완성형+자모) 외 문자 제거
+ * - 길이 2 이상 20 이하만, 입력 순서 유지 + 중복 제거
+ * 정규식/스트림 없이 문자 분류 테이블로 처리 → 입력당 토큰 버퍼 하나만 재사용
+ */
+@Component
 public class TagParser {
 
-    public Set<String> parseTags(String userInput) {
-        if (userInput == null || userInput.trim().isEmpty()) {
-            return Collections.emptySet(); // 입력이 없으면 빈 Set 반환
-        }
+    static final int MIN_LENGTH = 2;
+    static final int MAX_LENGTH = 20;
 
-        // 규칙 4: 쉼표를 공백으로 치환하여 구분자를 통일하고, 여러개의 공백은 하나로 합침
-        String normalizedInput = userInput.trim().replace(",", " ").replaceAll("\\s+", " ");
+    // ASCII 분류 테이블
+    private static final byte OTHER = 0, KEEP = 1, UPPER = 2, DELIM = 3;
+    private static final byte[] ASCII = new byte[128];
 
-        // 공백을 기준으로 태그들을 분리
-        String[] rawTags = normalizedInput.split(" ");
+    static {
+        for (char c = '0'; c <= '9'; c++) ASCII[c] = KEEP;
+        for (char c = 'a'; c <= 'z'; c++) ASCII[c] = KEEP;
+        for (char c = 'A'; c <= 'Z'; c++) ASCII[c] = UPPER;
+        ASCII['_'] = KEEP;
+        ASCII['-'] = KEEP;
+        for (char c : new char[]{' ', '\t', '\n', '\u000B', '\f', '\r', ','}) ASCII[c] = DELIM;
+    }
 
-        return Arrays.stream(rawTags)
-                .map(tag -> {
-                    // 정규식: 영문자, 숫자, 언더스코어(_), 한글(완성형+자모), 하이픈(-)을 제외한 모든 문자 제거
-                    return tag.toLowerCase().replaceAll("[^\\w가-힣ㄱ-ㅎㅏ-ㅣ-]", "");
-                })
-                // 규칙 3: 길이가 2 이상 20 이하인 태그만 필터링
-                .filter(tag -> !tag.isEmpty() && tag.length() >= 2 && tag.length() <= 20)
-                .collect(Collectors.toSet());
+    public Set<String> parseTags(String userInput) {
+        if (userInput == null || userInput.isEmpty()) {
+            return Collections.emptySet(); // 입력이 없으면 빈 Set 반환
+        }
+        Set<String> result = new LinkedHashSet<>();
+        tokenize(userInput, new StringBuilder(MAX_LENGTH), result);
+        return result;
     }
 
-    // --- 테스트를 위한 main 메소드 ---
-    public static void main(String[] args) {
-        TagParser parser = new TagParser();
-        String input = "  ##Java  #스프링부트!!,  #React.js,  #c++ #단일글자_A #한글태그 #ㄱㄴㄷ #ㅏㅓㅗ";
+    /** 이미 나뉜 태그 목록 (리뷰 저장 시 tagNames) → 같은 규칙으로 정리 */
+    public Set<String> parseTags(Collection<String> tagNames) {
+        if (tagNames == null || tagNames.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<String> result = new LinkedHashSet<>();
+        StringBuilder buf = new StringBuilder(MAX_LENGTH);
+        for (String name : tagNames) {
+            if (name != null) tokenize(name, buf, result);
+        }
+        return result;
+    }
 
-        Set<String> tags = parser.parseTags(input);
+    private static void tokenize(String input, StringBuilder buf, Set<String> out) {
+        buf.setLength(0);
+        for (int i = 0, n = input.length(); i < n; i++) {
+            char c = input.charAt(i);
+            if (c < 128) {
+                switch (ASCII[c]) {
+                    case KEEP -> buf.append(c);
+                    case UPPER -> buf.append((char) (c + ('a' - 'A')));
+                    case DELIM -> flush(buf, out);
+                    default -> { } // 기호 등은 버림
+                }
+            } else {
+                char lower = Character.toLowerCase(c);
+                if (lower < 128 ? ASCII[lower] == KEEP : isHangul(lower)) buf.append(lower);
+            }
+        }
+        flush(buf, out);
+    }
 
-        System.out.println("원본 입력: " + input);
-        System.out.println("처리된 태그: " + tags);
+    private static void flush(StringBuilder buf, Set<String> out) {
+        int len = buf.length();
+        if (len >= MIN_LENGTH && len <= MAX_LENGTH) out.add(buf.toString());
+        buf.setLength(0);
+    }
 
-        // 예상 출력: [java, 스프링부트, reactjs, c, 단일글자_a, 한글태그]
+    // 가-힣, ㄱ-ㅎ, ㅏ-ㅣ
+    private static boolean isHangul(char c) {
+        return (c >= '가' && c <= '힣') || (c >= 'ㄱ' && c <= 'ㅣ');
     }
-}
\ No newline at end of file
+}
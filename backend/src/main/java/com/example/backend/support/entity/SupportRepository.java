@@ -1,9 +1,14 @@
 package com.example.backend.support.entity;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface SupportRepository extends JpaRepository<Support, Long> {
 
@@ -12,4 +17,21 @@ public interface SupportRepository extends JpaRepository<Support, Long> {
 
     // 기존 메서드도 유지 가능
     List<Support> findAllByOrderByInsertedAtDesc();
+
+    // 관리자 내보내기용 (커서로 조금씩)
+    interface SupportExportRow {
+        Long getId();
+        String getEmail();
+        String getTitle();
+        String getContent();
+        Instant getInsertedAt();
+    }
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+                SELECT s.id AS id, s.email AS email, s.title AS title, s.content AS content, s.insertedAt AS insertedAt
+                FROM Support s
+                ORDER BY s.id
+            """)
+    Stream<SupportExportRow> streamAllForExport();
 }
@@ -0,0 +1,72 @@
+package com.example.backend.board;
+
+import com.example.backend.board.dto.BoardDto;
+import com.example.backend.board.entity.Board;
+import com.example.backend.board.entity.BoardFile;
+import com.example.backend.board.entity.BoardFileId;
+import com.example.backend.board.repository.BoardFileRepository;
+import com.example.backend.board.repository.BoardRepository;
+import com.example.backend.board.service.BoardService;
+import com.example.backend.member.entity.Member;
+import com.example.backend.member.repository.MemberRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 상세가 쿼리 1개(findDetailRows)로 끝나는지 확인 (H2, MariaDB 모드)
+ * 작성자/아바타/첨부파일을 지연 로딩하면 prepared statement 수가 늘어나 실패한다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=warn"
+})
+class BoardDetailQueryCountTest {
+
+    @Autowired private BoardService boardService;
+    @Autowired private BoardRepository boardRepository;
+    @Autowired private BoardFileRepository boardFileRepository;
+    @Autowired private MemberRepository memberRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void detailIsOneStatement() {
+        Member author = memberRepository.save(Member.builder()
+                .email("detail@test.local")
+                .nickName("detail")
+                .build());
+
+        Board board = new Board();
+        board.setTitle("의자");
+        board.setContent("거의 새 것");
+        board.setPrice(15000);
+        board.setAuthor(author);
+        board = boardRepository.save(board);
+
+        for (String name : new String[]{"a.jpg", "b.jpg", "c.jpg"}) {
+            BoardFileId id = new BoardFileId();
+            id.setBoardId(board.getId());
+            id.setName(name);
+            BoardFile file = new BoardFile();
+            file.setId(id);
+            file.setBoard(board);
+            boardFileRepository.save(file);
+        }
+
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        BoardDto dto = boardService.getBoardById(board.getId()).orElseThrow();
+
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(dto.getAuthorNickName()).isEqualTo("detail");
+        assertThat(dto.getFiles()).hasSize(3);
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.backend.calendar;
+
+import com.example.backend.calendar.dto.CalendarDataDTO;
+import com.example.backend.calendar.dto.HolidayDTO;
+import com.example.backend.calendar.dto.ReviewCalendarDTO;
+import com.example.backend.calendar.service.CalendarService;
+import com.example.backend.member.entity.Member;
+import com.example.backend.member.repository.MemberRepository;
+import com.example.backend.petFacility.entity.PetFacility;
+import com.example.backend.petFacility.repository.PetFacilityRepository;
+import com.example.backend.review.entity.Review;
+import com.example.backend.review.repository.ReviewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 캘린더: 로컬 공휴일 파일(holidays/2025.json) → HolidayCache → 리뷰 [from, to) 범위 조회 (H2, MariaDB 모드)
+ * app.calendar.holiday-source=file 이라 외부 API 를 부르지 않는다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = "app.calendar.holiday-source=file")
+class CalendarServiceTest {
+
+    private static final Path CACHE_DIR = tempDir();
+
+    @DynamicPropertySource
+    static void cacheDir(DynamicPropertyRegistry registry) {
+        registry.add("app.calendar.holiday-cache-dir", CACHE_DIR::toString);
+    }
+
+    @Autowired private CalendarService calendarService;
+    @Autowired private MemberRepository memberRepository;
+    @Autowired private PetFacilityRepository petFacilityRepository;
+    @Autowired private ReviewRepository reviewRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // findCalendarRows 의 DATE_FORMAT(MariaDB) → H2 에 없으면 같은 이름의 함수로 등록
+        try {
+            jdbcTemplate.execute("CREATE ALIAS IF NOT EXISTS DATE_FORMAT FOR '"
+                    + CalendarServiceTest.class.getName() + ".dateFormat'");
+        } catch (RuntimeException ignored) {
+            // 이미 내장 함수로 있는 경우
+        }
+        reviewRepository.deleteAll();
+    }
+
+    /** H2 용 DATE_FORMAT(ts, '%Y-%m-%d') */
+    public static String dateFormat(Timestamp ts, String pattern) {
+        return ts == null ? null : ts.toLocalDateTime().toLocalDate().toString();
+    }
+
+    @Test
+    void monthUsesFileHolidaysAndReviewRange() throws IOException {
+        Member me = member("cal@test.local", "cal");
+        Member other = member("other@test.local", "other");
+        PetFacility facility = facility("한강 애견공원");
+
+        review(me, facility, LocalDateTime.of(2025, 2, 28, 12, 0));  // 전달
+        Review march = review(me, facility, LocalDateTime.of(2025, 3, 15, 12, 0));
+        review(me, facility, LocalDateTime.of(2025, 4, 1, 12, 0));   // 다음달
+        review(other, facility, LocalDateTime.of(2025, 3, 20, 12, 0)); // 다른 회원
+
+        CalendarDataDTO data = calendarService.getCalendarData("cal@test.local", 2025, 3);
+
+        // 리뷰는 그 달, 그 회원 것만
+        assertThat(data.getReviews()).extracting(ReviewCalendarDTO::getId)
+                .containsExactly(march.getId().longValue());
+        assertThat(data.getReviews().get(0).getDate()).isEqualTo("2025-03-15");
+        assertThat(data.getReviews().get(0).getFacilityName()).isEqualTo("한강 애견공원");
+        assertThat(data.getTotalReviews()).isEqualTo(1);
+
+        // 공휴일은 월과 무관하게 한 해 전체 (test/resources/holidays/2025.json)
+        assertThat(data.getHolidays()).containsKeys("2025-01-01", "2025-03-01", "2025-12-25");
+        assertThat(data.getHolidays().get("2025-03-01")).extracting(HolidayDTO::getName).isEqualTo("삼일절");
+
+        // 받아 온 결과는 캐시 디렉터리에 연도 파일로 남는다
+        Path cached = CACHE_DIR.resolve("2025.json");
+        assertThat(cached).isRegularFile();
+        assertThat(Files.readString(cached)).contains("2025-03-01");
+    }
+
+    @Test
+    void yearRangeAndYearWithoutFile() {
+        Member me = member("year@test.local", "year");
+        PetFacility facility = facility("서울숲");
+
+        review(me, facility, LocalDateTime.of(2024, 12, 15, 12, 0));
+        review(me, facility, LocalDateTime.of(2025, 1, 15, 12, 0));
+        review(me, facility, LocalDateTime.of(2025, 12, 15, 12, 0));
+        review(me, facility, LocalDateTime.of(2026, 1, 15, 12, 0));
+
+        CalendarDataDTO year = calendarService.getCalendarData("year@test.local", 2025, null);
+        assertThat(year.getReviews()).extracting(ReviewCalendarDTO::getDate)
+                .containsExactly("2025-12-15", "2025-01-15");
+
+        // 파일이 없는 해는 공휴일 없음
+        assertThat(calendarService.getCalendarData("year@test.local", 2030, null).getHolidays()).isEmpty();
+    }
+
+    private Member member(String email, String nickName) {
+        return memberRepository.findByEmail(email).orElseGet(() -> memberRepository.save(Member.builder()
+                .email(email)
+                .nickName(nickName)
+                .build()));
+    }
+
+    private PetFacility facility(String name) {
+        PetFacility facility = new PetFacility();
+        facility.setName(name);
+        return petFacilityRepository.save(facility);
+    }
+
+    private Review review(Member member, PetFacility facility, LocalDateTime at) {
+        return reviewRepository.save(Review.builder()
+                .memberEmail(member)
+                .petFacility(facility)
+                .review("좋아요")
+                .rating(5)
+                .insertedAt(at.atZone(ZoneId.systemDefault()).toInstant())
+                .build());
+    }
+
+    private static Path tempDir() {
+        try {
+            return Files.createTempDirectory("holiday-cache-");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
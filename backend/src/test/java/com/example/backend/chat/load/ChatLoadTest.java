@@ -0,0 +1,242 @@
+package com.example.backend.chat.load;
+
+import com.example.backend.chat.dto.ChatDtos.ChatMessageDto;
+import com.example.backend.chat.dto.ChatDtos.SendMessageRequest;
+import com.example.backend.chat.entity.ChatParticipant;
+import com.example.backend.chat.entity.ChatRoom;
+import com.example.backend.chat.repository.ChatParticipantRepository;
+import com.example.backend.chat.repository.ChatRoomRepository;
+import com.example.backend.chat.service.RoomMembershipCache;
+import com.example.backend.member.entity.Member;
+import com.example.backend.member.repository.MemberRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.*;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 채팅(WebSocket/STOMP) 부하 하네스 — 기본 test 에서는 제외, ./gradlew chatLoadTest 로 실행
+ * - H2(MariaDB 모드) 위에 앱을 띄우고 회원/방을 만든 뒤 SockJS 로 /ws 에 connections 개 연결
+ * - 연결마다 자기 방 /topic/rooms/{id} 구독, /app/rooms/{id}/send 를 초당 rate 건으로 전송
+ * - clientMsgId 에 보낸 시각(nanoTime)을 실어 브로드캐스트 수신까지의 지연을 잰다
+ * - 결과: 지연 p50/p95/p99/max, 송수신 msg/s, 연결당 힙(클라이언트+서버, 같은 JVM), GC 횟수/시간
+ *   콘솔 + build/reports/chat-load/summary.txt
+ *
+ * 설정 (-Dload.xxx=...)
+ *   connections (2000) / rate 초당 전송 수 (500) / duration-seconds (30) / warmup-seconds (5)
+ */
+@Tag("load")
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ChatLoadTest {
+
+    private static final int CONNECTIONS = Integer.getInteger("load.connections", 2000);
+    private static final int RATE = Integer.getInteger("load.rate", 500);
+    private static final int DURATION_SECONDS = Integer.getInteger("load.duration-seconds", 30);
+    private static final int WARMUP_SECONDS = Integer.getInteger("load.warmup-seconds", 5);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired private MemberRepository memberRepository;
+    @Autowired private ChatRoomRepository roomRepository;
+    @Autowired private ChatParticipantRepository participantRepository;
+    @Autowired private RoomMembershipCache membershipCache;
+    @Autowired private JwtEncoder jwtEncoder;
+
+    private record Conn(StompSession session, Long roomId) {}
+
+    private final ConcurrentLinkedQueue<Long> latenciesNanos = new ConcurrentLinkedQueue<>();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong sendErrors = new AtomicLong();
+    private volatile boolean measuring;
+
+    @Test
+    void fanOutLatency() throws Exception {
+        // 1) 데이터: 2명씩 한 방 (연결 2개 = 방 1개)
+        List<Member> members = new ArrayList<>(CONNECTIONS);
+        for (int i = 0; i < CONNECTIONS; i++) {
+            members.add(Member.builder()
+                    .email("load" + i + "@load.local")
+                    .nickName("load" + i)
+                    .build());
+        }
+        members = memberRepository.saveAll(members);
+
+        Long[] roomOf = new Long[CONNECTIONS];
+        for (int i = 0; i + 1 < CONNECTIONS; i += 2) {
+            ChatRoom room = roomRepository.save(ChatRoom.builder().build());
+            Long a = members.get(i).getId(), b = members.get(i + 1).getId();
+            participantRepository.save(new ChatParticipant(room.getId(), a, null));
+            participantRepository.save(new ChatParticipant(room.getId(), b, null));
+            membershipCache.put(room.getId(), new long[]{a, b});
+            roomOf[i] = roomOf[i + 1] = room.getId();
+        }
+
+        // 2) 연결 (연결 전/후 힙 차이로 연결당 메모리)
+        ThreadPoolTaskScheduler heartbeat = new ThreadPoolTaskScheduler();
+        heartbeat.setPoolSize(2);
+        heartbeat.initialize();
+        WebSocketStompClient stomp = new WebSocketStompClient(
+                new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+        stomp.setMessageConverter(new MappingJackson2MessageConverter());
+        stomp.setTaskScheduler(heartbeat);
+
+        long heapBefore = usedHeapAfterGc();
+        List<Conn> conns = new ArrayList<>(CONNECTIONS);
+        String url = "http://localhost:" + port + "/ws";
+        for (int i = 0; i < CONNECTIONS && roomOf[i] != null; i++) {
+            StompHeaders connectHeaders = new StompHeaders();
+            connectHeaders.add("Authorization", "Bearer " + token(members.get(i)));
+            StompSession session = stomp.connectAsync(url, new WebSocketHttpHeaders(), connectHeaders,
+                    new StompSessionHandlerAdapter() {}).get(30, TimeUnit.SECONDS);
+            session.subscribe("/topic/rooms/" + roomOf[i], new FrameHandler());
+            conns.add(new Conn(session, roomOf[i]));
+        }
+        long heapAfter = usedHeapAfterGc();
+
+        // 3) 전송 (워밍업 후 측정)
+        ScheduledExecutorService driver = Executors.newSingleThreadScheduledExecutor();
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, RATE);
+        driver.scheduleAtFixedRate(() -> sendOne(conns), 0, periodNanos, TimeUnit.NANOSECONDS);
+
+        Thread.sleep(TimeUnit.SECONDS.toMillis(WARMUP_SECONDS));
+        GcSnapshot gcBefore = GcSnapshot.now();
+        sent.set(0);
+        received.set(0);
+        latenciesNanos.clear();
+        measuring = true;
+        Thread.sleep(TimeUnit.SECONDS.toMillis(DURATION_SECONDS));
+        measuring = false;
+        GcSnapshot gcAfter = GcSnapshot.now();
+
+        driver.shutdownNow();
+        conns.forEach(c -> c.session().disconnect());
+        heartbeat.shutdown();
+
+        // 4) 리포트
+        String report = report(conns.size(), heapBefore, heapAfter, gcBefore, gcAfter);
+        System.out.println(report);
+        Path out = Path.of("build", "reports", "chat-load", "summary.txt");
+        Files.createDirectories(out.getParent());
+        Files.writeString(out, report);
+
+        assertTrue(received.get() > 0, "브로드캐스트를 하나도 받지 못했습니다.");
+    }
+
+    private void sendOne(List<Conn> conns) {
+        Conn c = conns.get(ThreadLocalRandom.current().nextInt(conns.size()));
+        SendMessageRequest req = new SendMessageRequest();
+        req.setContent("load test message");
+        req.setClientMsgId(Long.toString(System.nanoTime()));
+        try {
+            c.session().send("/app/rooms/" + c.roomId() + "/send", req);
+            if (measuring) sent.incrementAndGet();
+        } catch (Exception e) {
+            sendErrors.incrementAndGet();
+        }
+    }
+
+    private class FrameHandler implements StompFrameHandler {
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return ChatMessageDto.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            if (!measuring) return;
+            ChatMessageDto dto = (ChatMessageDto) payload;
+            received.incrementAndGet();
+            try {
+                latenciesNanos.add(System.nanoTime() - Long.parseLong(dto.getClientMsgId()));
+            } catch (NumberFormatException | NullPointerException ignore) {
+                // 하네스가 보낸 메시지가 아님
+            }
+        }
+    }
+
+    private String token(Member m) {
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer("self")
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(60L * 60))
+                .subject(m.getEmail())
+                .claim("uid", m.getId())
+                .claim("scp", "USER")
+                .build();
+        return jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+    }
+
+    private String report(int connections, long heapBefore, long heapAfter,
+                          GcSnapshot gcBefore, GcSnapshot gcAfter) {
+        long[] lat = latenciesNanos.stream().mapToLong(Long::longValue).sorted().toArray();
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== chat load (").append(Instant.now()).append(") ===\n");
+        sb.append(String.format("connections        : %d (rooms %d)%n", connections, connections / 2));
+        sb.append(String.format("target rate        : %d msg/s, %d s (warmup %d s)%n", RATE, DURATION_SECONDS, WARMUP_SECONDS));
+        sb.append(String.format("sent / received    : %d / %d (send errors %d)%n", sent.get(), received.get(), sendErrors.get()));
+        sb.append(String.format("throughput         : %.1f sent/s, %.1f delivered/s%n",
+                sent.get() / (double) DURATION_SECONDS, received.get() / (double) DURATION_SECONDS));
+        sb.append(String.format("fan-out latency ms : p50 %.2f  p95 %.2f  p99 %.2f  max %.2f  (n=%d)%n",
+                pct(lat, 50), pct(lat, 95), pct(lat, 99), pct(lat, 100), lat.length));
+        sb.append(String.format("heap / connection  : %.1f KiB (client+server, same JVM)%n",
+                (heapAfter - heapBefore) / 1024.0 / Math.max(1, connections)));
+        sb.append(String.format("gc during run      : %d collections, %d ms%n",
+                gcAfter.count() - gcBefore.count(), gcAfter.timeMs() - gcBefore.timeMs()));
+        return sb.toString();
+    }
+
+    private static double pct(long[] sorted, int p) {
+        if (sorted.length == 0) return Double.NaN;
+        int idx = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, idx))] / 1_000_000.0;
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(200);
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private record GcSnapshot(long count, long timeMs) {
+        static GcSnapshot now() {
+            long count = 0, time = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                count += Math.max(0, gc.getCollectionCount());
+                time += Math.max(0, gc.getCollectionTime());
+            }
+            return new GcSnapshot(count, time);
+        }
+    }
+}
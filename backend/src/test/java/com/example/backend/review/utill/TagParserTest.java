@@ -0,0 +1,89 @@
+package com.example.backend.review.utill;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TagParserTest {
+
+    private final TagParser parser = new TagParser();
+
+    @Test
+    void emptyInput() {
+        assertThat(parser.parseTags((String) null)).isEmpty();
+        assertThat(parser.parseTags("")).isEmpty();
+        assertThat(parser.parseTags("   \t\n ")).isEmpty();
+        assertThat(parser.parseTags((List<String>) null)).isEmpty();
+    }
+
+    @Test
+    void mixedInput() {
+        // 기존 main 메소드 예시
+        String input = "  ##Java  #스프링부트!!,  #React.js,  #c++ #단일글자_A #한글태그 #ㄱㄴㄷ #ㅏㅓㅗ";
+        assertThat(parser.parseTags(input))
+                .containsExactly("java", "스프링부트", "reactjs", "단일글자_a", "한글태그", "ㄱㄴㄷ", "ㅏㅓㅗ");
+    }
+
+    @Test
+    void commasAndWhitespaceSplit() {
+        assertThat(parser.parseTags("대형견,놀이터\t주차\n산책-코스\r\f실내"))
+                .containsExactly("대형견", "놀이터", "주차", "산책-코스", "실내");
+    }
+
+    @Test
+    void lengthLimits() {
+        String twenty = "a".repeat(20);
+        assertThat(parser.parseTags("a 가 ab " + twenty + " " + twenty + "b"))
+                .containsExactly("ab", twenty);
+    }
+
+    @Test
+    void duplicatesCollapseAfterNormalization() {
+        assertThat(parser.parseTags("#Dog dog DOG! d.o.g")).containsExactly("dog");
+    }
+
+    @Test
+    void nonAsciiSymbolsAreDropped() {
+        // 전각 문자, 이모지, 줄바꿈 없는 공백은 구분자가 아니라 제거 대상
+        assertThat(parser.parseTags("강아지🐶카페 ＡＢ 공원\u00A0산책"))
+                .containsExactly("강아지카페", "공원산책");
+    }
+
+    @Test
+    void collectionInput() {
+        assertThat(parser.parseTags(Arrays.asList("#대형견", null, "놀이터, 주차", "x")))
+                .containsExactly("대형견", "놀이터", "주차");
+    }
+
+    @Test
+    void matchesRegexImplementation() {
+        String[] samples = {
+                "  ##Java  #스프링부트!!,  #React.js,  #c++ #단일글자_A #한글태그 #ㄱㄴㄷ #ㅏㅓㅗ",
+                "대형견,,놀이터 ,  ,주차장",
+                "ÀÉÎ ÅBC éte KelvinK İstanbul",
+                "tab\tsep\u000Bvt\fff\rcr\nnl",
+                "길이가아주아주아주아주아주긴한글태그입니다 short 12 1",
+                "__ -- _- 9a A9",
+        };
+        for (String s : samples) {
+            assertThat(parser.parseTags(s)).as(s).isEqualTo(legacy(s));
+        }
+    }
+
+    // 이전 구현 (정규식 3회) — 동작 비교용
+    private static final Pattern NOT_TAG_CHAR = Pattern.compile("[^\\w가-힣ㄱ-ㅎㅏ-ㅣ-]");
+
+    private static Set<String> legacy(String userInput) {
+        String normalizedInput = userInput.trim().replace(",", " ").replaceAll("\\s+", " ");
+        return Arrays.stream(normalizedInput.split(" "))
+                .map(tag -> NOT_TAG_CHAR.matcher(tag.toLowerCase()).replaceAll(""))
+                .filter(tag -> !tag.isEmpty() && tag.length() >= 2 && tag.length() <= 20)
+                .collect(Collectors.toSet());
+    }
+}
@@ -104,9 +104,32 @@ function normalizeMessage(raw) {
       raw.senderProfileImageUrl ?? raw.senderAvatar ?? raw.senderImageUrl ?? null,
     content: (raw.content ?? raw.message ?? "").toString(),
     insertedAt: raw.insertedAt ?? raw.createdAt ?? raw.inserted_at ?? null,
+    tempId: raw.tempId ?? null, // 저장 전 임시 id (ack 로 id 확정)
+    failed: false,
   };
 }
 
+// 보낸 사람 사전을 기다리는 최대 시간 (그동안 온 compact 프레임은 보류)
+const DICT_WAIT_MS = 3000;
+
+/** compact 프레임([id, tempId, senderId, insertedAtMillis, content, clientMsgId]) → 메시지 */
+function decodeCompact(arr, roomId, senders) {
+  if (!Array.isArray(arr)) return null;
+  const [id, tempId, senderId, insertedAt, content, clientMsgId] = arr;
+  const [nick, avatar] = senders?.[senderId] ?? [];
+  return normalizeMessage({
+    id,
+    tempId,
+    roomId: Number(roomId),
+    senderId,
+    senderNickName: nick ?? null,
+    senderProfileImageUrl: avatar ?? null,
+    content,
+    insertedAt,
+    clientMsgId,
+  });
+}
+
 function formatTime(ts) {
   if (!ts) return "";
   try {
@@ -213,8 +236,16 @@ export function ChatRoomPage() {
   const bearer = token ? `Bearer ${token}` : null;
 
   const [messages, setMessages] = useState(null);
+  // 위쪽(이전) 메시지가 더 있는지 → beforeId 커서로 "이전 메시지 더 보기"
+  const [hasOlder, setHasOlder] = useState(false);
+  const [loadingOlder, setLoadingOlder] = useState(false);
+  const keepScrollRef = useRef(null); // 이전 메시지 붙일 때 화면 위치 유지용 (붙이기 전 scrollHeight - scrollTop)
   const [input, setInput] = useState("");
   const [connecting, setConnecting] = useState(false);
+  // 상대 입력 중 표시 (서버가 방당 주기마다 1건으로 모아서 보냄, expiresInMs 지나면 해제)
+  const [typingUntil, setTypingUntil] = useState(0);
+  const lastTypingSentRef = useRef(0);
+  const sendersRef = useRef({});
 
   // 방/게시글 메타
   const [roomMeta, setRoomMeta] = useState(null);
@@ -239,6 +270,10 @@ export function ChatRoomPage() {
   });
 
   const stompRef = useRef(null);
+  const messagesRef = useRef(null); // 재접속 동기화 시 마지막 id 계산용
+  useEffect(() => {
+    messagesRef.current = messages;
+  }, [messages]);
   const listRef = useRef(null);
   const myId = user?.id ?? user?.memberId ?? user?.userId ?? null;
 
@@ -380,15 +415,45 @@ export function ChatRoomPage() {
     };
   }, [roomMeta?.boardId]); // eslint-disable-line react-hooks/exhaustive-deps
 
+  /** 최신 페이지 로드 (최초 진입 + 재접속 시 끊긴 구간이 너무 길 때 교체용) */
+  const loadLatest = async () => {
+    const { items: data, hasMore } = await chatApi.listMessagesPage(roomId, { limit: 50 });
+    const items = data.map(normalizeMessage).filter(Boolean);
+    setMessages(items);
+    setHasOlder(hasMore);
+    return items;
+  };
+
+  /** 이전 메시지 더 보기 (가장 오래된 id 기준 beforeId) */
+  const loadOlder = async () => {
+    const current = messagesRef.current ?? [];
+    const oldestId = current.reduce((mn, m) => (m.id && (mn === null || m.id < mn) ? m.id : mn), null);
+    if (!oldestId || loadingOlder) return;
+    setLoadingOlder(true);
+    try {
+      const { items: data, hasMore } = await chatApi.listMessagesPage(roomId, { beforeId: oldestId, limit: 50 });
+      const older = data.map(normalizeMessage).filter(Boolean);
+      const el = listRef.current;
+      if (el) keepScrollRef.current = el.scrollHeight - el.scrollTop;
+      setMessages((prev) => {
+        const seen = new Set((prev ?? []).map((m) => m.id).filter(Boolean));
+        return [...older.filter((m) => !seen.has(m.id)), ...(prev ?? [])];
+      });
+      setHasOlder(hasMore);
+    } catch (e) {
+      console.warn("load older failed", e?.response?.status);
+    } finally {
+      setLoadingOlder(false);
+    }
+  };
+
   /** 최초 메시지 로드 */
   useEffect(() => {
     let alive = true;
     (async () => {
       try {
-        const data = await chatApi.listMessages(roomId, { limit: 50 });
+        const items = await loadLatest();
         if (!alive) return;
-        const items = data.map(normalizeMessage).filter(Boolean);
-        setMessages(items);
 
         // ✅ id 없으면 markRead 스킵 + 실패해도 메시지 날리지 않음
         if (items.length > 0 && items[items.length - 1].id) {
@@ -414,10 +479,15 @@ export function ChatRoomPage() {
     };
   }, [roomId]);
 
-  /** 메시지 변경 시 자동 스크롤(수신/송신 모두) */
+  /** 메시지 변경 시 자동 스크롤(수신/송신 모두), 이전 메시지를 위에 붙인 경우엔 보던 위치 유지 */
   useEffect(() => {
     const el = listRef.current;
     if (!el || !messages) return;
+    if (keepScrollRef.current != null) {
+      el.scrollTop = el.scrollHeight - keepScrollRef.current;
+      keepScrollRef.current = null;
+      return;
+    }
     el.scrollTop = el.scrollHeight;
   }, [messages?.length]);
 
@@ -441,11 +511,46 @@ export function ChatRoomPage() {
       debug: () => {}, // 로그 지저분하면 무음
     });
 
+    let connectedOnce = false;
     client.onConnect = () => {
       setConnecting(false);
 
-      const sub = client.subscribe(`/topic/rooms/${roomId}`, async (frame) => {
-        const msg = normalizeMessage(JSON.parse(frame.body));
+      // 재접속: 끊긴 동안 쌓인 메시지만 afterId 로 최대 몇 페이지 동기화
+      //  - 서버 id 가 있는 메시지가 없거나(afterId 없음) 끊긴 구간이 너무 길면 최신 페이지로 교체,
+      //    그 앞은 "이전 메시지 더 보기"(beforeId)로 → 재접속 비용은 항상 페이지 몇 개
+      if (connectedOnce) {
+        const lastId = (messagesRef.current ?? []).reduce(
+          (mx, m) => (m.id && m.id > mx ? m.id : mx),
+          0
+        );
+        chatApi
+          .syncMessagesAfter(roomId, lastId)
+          .then(({ messages: missed, truncated }) => {
+            if (truncated) {
+              // 아직 서버 id 가 없는 전송 중 메시지는 교체 후에도 남긴다
+              const pending = (messagesRef.current ?? []).filter((m) => !m.id);
+              return loadLatest().then((items) => {
+                if (pending.length > 0) setMessages([...items, ...pending]);
+              });
+            }
+            if (missed.length === 0) return;
+            setMessages((prev) => {
+              const seen = new Set((prev ?? []).map((m) => m.id).filter(Boolean));
+              return [...(prev ?? []), ...missed.filter((m) => !seen.has(m.id))];
+            });
+          })
+          .catch((e) => console.warn("chat sync failed", e?.response?.status));
+      }
+      connectedOnce = true;
+
+      // compact 인코딩: 보낸 사람 사전은 구독 시 1회(/app/.../senders), 메시지는 배열 프레임
+      //  사전보다 먼저 도착한 프레임은 닉네임이 비므로 사전을 받을 때까지 모아 두었다가 순서대로 처리
+      //  (사전 응답이 오지 않으면 DICT_WAIT_MS 뒤에 있는 사전으로 처리)
+      let dictReady = false;
+      let pendingFrames = [];
+
+      const handleCompact = async (arr) => {
+        const msg = decodeCompact(arr, roomId, sendersRef.current);
         if (!msg) return;
 
         setMessages((prev) => (prev ? [...prev, msg] : [msg]));
@@ -455,9 +560,58 @@ export function ChatRoomPage() {
             await chatApi.markRead(roomId, msg.id);
           } catch {}
         }
+      };
+
+      const flushPending = () => {
+        if (dictReady) return;
+        dictReady = true;
+        const queued = pendingFrames;
+        pendingFrames = [];
+        queued.forEach(handleCompact);
+      };
+
+      const dictSub = client.subscribe(`/app/rooms/${roomId}/senders`, (frame) => {
+        sendersRef.current = JSON.parse(frame.body)?.senders ?? {};
+        dictSub.unsubscribe();
+        flushPending();
+      });
+      setTimeout(flushPending, DICT_WAIT_MS);
+
+      const sub = client.subscribe(`/topic/rooms/${roomId}/compact`, (frame) => {
+        const arr = JSON.parse(frame.body);
+        if (!dictReady) {
+          pendingFrames.push(arr);
+          return;
+        }
+        handleCompact(arr);
+      });
+
+      // 저장 확정: tempId → id 채우기 (실패면 표시만)
+      const ackSub = client.subscribe(`/topic/rooms/${roomId}/ack`, async (frame) => {
+        const ack = JSON.parse(frame.body);
+        if (!ack?.tempId) return;
+        setMessages((prev) =>
+          (prev ?? []).map((m) =>
+            m.tempId === ack.tempId
+              ? { ...m, id: ack.id ?? m.id, failed: ack.status === "FAILED" }
+              : m
+          )
+        );
+        if (ack.id) {
+          try {
+            await chatApi.markRead(roomId, ack.id);
+          } catch {}
+        }
+      });
+
+      const typingSub = client.subscribe(`/topic/rooms/${roomId}/typing`, (frame) => {
+        const ev = JSON.parse(frame.body);
+        const others = (ev?.memberIds ?? []).filter((id) => String(id) !== String(myId));
+        if (others.length === 0) return;
+        setTypingUntil(Date.now() + (ev.expiresInMs ?? 3000));
       });
 
-      stompRef.current = { client, sub };
+      stompRef.current = { client, sub, ackSub, typingSub };
     };
 
     client.activate();
@@ -465,12 +619,31 @@ export function ChatRoomPage() {
     return () => {
       try {
         if (stompRef.current?.sub) stompRef.current.sub.unsubscribe();
+        if (stompRef.current?.ackSub) stompRef.current.ackSub.unsubscribe();
+        if (stompRef.current?.typingSub) stompRef.current.typingSub.unsubscribe();
         client.deactivate();
       } catch {}
       stompRef.current = null;
     };
   }, [roomId, token, bearer]);
 
+  // 입력 중 표시 만료 타이머
+  useEffect(() => {
+    if (!typingUntil) return;
+    const t = setTimeout(() => setTypingUntil(0), Math.max(0, typingUntil - Date.now()));
+    return () => clearTimeout(t);
+  }, [typingUntil]);
+
+  /** 입력 중 알림 (1초에 최대 1번만 보냄) */
+  const notifyTyping = () => {
+    const client = stompRef.current?.client;
+    if (!client || !client.connected) return;
+    const now = Date.now();
+    if (now - lastTypingSentRef.current < 1000) return;
+    lastTypingSentRef.current = now;
+    client.publish({ destination: `/app/rooms/${roomId}/typing`, body: "{}" });
+  };
+
   /** 전송 */
   const sendMessage = () => {
     const content = input.trim();
@@ -712,6 +885,13 @@ export function ChatRoomPage() {
         }}
       >
         <ListGroup as="div" variant="flush" style={{ display: "flex", gap: 6 }}>
+          {hasOlder && (
+            <div style={{ textAlign: "center" }}>
+              <Button size="sm" variant="outline-secondary" onClick={loadOlder} disabled={loadingOlder}>
+                {loadingOlder ? <Spinner animation="border" size="sm" /> : "이전 메시지 더 보기"}
+              </Button>
+            </div>
+          )}
           {messages.length === 0 && (
             <div style={{ color: "#888", fontSize: 13, textAlign: "center", paddingTop: 24 }}>
               대화를 시작해보세요!
@@ -724,7 +904,7 @@ export function ChatRoomPage() {
             return messages.map((m, idx) => {
               const isMe = isMyMessage(m, user, myId);
               const { name, avatar } = viewNameAndAvatar(m, isMe);
-              const key = m.id ?? `${m.insertedAt ?? ""}-${idx}`;
+              const key = m.tempId ?? m.id ?? `${m.insertedAt ?? ""}-${idx}`;
 
               // 날짜 구분선 판단(일 단위)
               const dayKey = m.insertedAt ? new Date(m.insertedAt).toDateString() : "noDate";
@@ -808,6 +988,7 @@ export function ChatRoomPage() {
                         </div>
 
                         <div style={{ whiteSpace: "pre-wrap", fontSize: 14 }}>{m.content}</div>
+                        {m.failed && <small className="text-danger">전송 실패</small>}
                       </div>
 
                       {/* 내(오른쪽) 아바타 */}
@@ -836,11 +1017,18 @@ export function ChatRoomPage() {
         </ListGroup>
       </div>
 
+      {typingUntil > 0 && (
+        <div className="small text-muted mb-1">상대방이 입력 중...</div>
+      )}
+
       {/* 입력영역 */}
       <InputGroup>
         <Form.Control
           value={input}
-          onChange={(e) => setInput(e.target.value)}
+          onChange={(e) => {
+            setInput(e.target.value);
+            notifyTyping();
+          }}
           placeholder={connecting ? "연결 중..." : "메시지를 입력하세요"}
           onKeyDown={(e) => (e.key === "Enter" ? sendMessage() : null)}
           disabled={connecting}
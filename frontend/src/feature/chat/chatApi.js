@@ -125,6 +125,33 @@ export const chatApi = {
     return normalizeArray(data, normalizeMessage);
   },
 
+  /** 메시지 한 페이지 + 이어받을 게 더 있는지 (X-Chat-Has-More) */
+  async listMessagesPage(roomId, params = {}) {
+    const res = await api.get(`/api/chat/rooms/${roomId}/messages`, { params });
+    return {
+      items: normalizeArray(unwrap(res), normalizeMessage),
+      hasMore: String(res.headers?.["x-chat-has-more"]) === "true",
+    };
+  },
+
+  /**
+   * 재접속 델타 동기화: afterId 이후를 페이지 단위로 최대 maxPages 페이지까지만 받는다.
+   * - afterId 가 없으면(아직 서버 id 를 가진 메시지가 없음) 요청하지 않고 truncated 로 돌려준다
+   * - truncated=true 면 끊긴 사이가 너무 길다는 뜻 → 호출 측에서 최신 페이지로 교체 + "이전 메시지"는 beforeId 로
+   */
+  async syncMessagesAfter(roomId, afterId, { limit = 100, maxPages = 3 } = {}) {
+    if (!afterId) return { messages: [], truncated: true };
+    const out = [];
+    let cursor = afterId;
+    for (let i = 0; i < maxPages; i++) {
+      const { items, hasMore } = await chatApi.listMessagesPage(roomId, { afterId: cursor, limit });
+      out.push(...items);
+      if (!hasMore || items.length === 0) return { messages: out, truncated: false };
+      cursor = items[items.length - 1].id;
+    }
+    return { messages: out, truncated: true };
+  },
+
   /** 읽음 처리: 마지막 메시지 ID 기준 */
   async markRead(roomId, lastMessageId) {
     await api.post(`/api/chat/rooms/${roomId}/read`, null, { params: { lastMessageId } });
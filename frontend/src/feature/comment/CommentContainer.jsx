@@ -5,10 +5,12 @@ import CommentAdd from "./CommentAdd";
 import CommentList from "./CommentList";
 import { useContext } from "react";
 import { AuthenticationContext } from "../../common/AuthenticationContextProvider";
-import { Badge } from "react-bootstrap";
+import { Badge, Button } from "react-bootstrap";
 
 export function CommentContainer({ boardId }) {
   const [commentList, setCommentList] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [totalCount, setTotalCount] = useState(0); // 불러온 개수가 아니라 게시글 전체 댓글 수
   const { user } = useContext(AuthenticationContext); // 현재 로그인한 사용자
   const currentUserEmail = user?.email;
 
@@ -16,7 +18,24 @@ export function CommentContainer({ boardId }) {
     axios
       .get(`/api/comment/list?boardId=${boardId}`)
       .then((res) => {
-        setCommentList(Array.isArray(res.data) ? res.data : res.data.comments);
+        const comments = Array.isArray(res.data) ? res.data : res.data.comments;
+        setCommentList(comments);
+        setNextCursor(res.data?.nextCursor ?? null);
+        setTotalCount(res.data?.total ?? comments.length);
+      })
+      .catch(() => {
+        toast.error("댓글 목록 불러오기 실패");
+      });
+  }
+
+  // 다음 페이지 (id 기준 커서)
+  function fetchMoreComments() {
+    if (nextCursor == null) return;
+    axios
+      .get(`/api/comment/list?boardId=${boardId}&cursor=${nextCursor}`)
+      .then((res) => {
+        setCommentList((prev) => [...prev, ...(res.data.comments ?? [])]);
+        setNextCursor(res.data?.nextCursor ?? null);
       })
       .catch(() => {
         toast.error("댓글 목록 불러오기 실패");
@@ -61,7 +80,7 @@ export function CommentContainer({ boardId }) {
           className="ms-1"
           style={{ fontSize: "0.7rem" }}
         >
-          {commentList.length}
+          {totalCount}
         </Badge>
       </h5>
       <CommentList
@@ -70,6 +89,16 @@ export function CommentContainer({ boardId }) {
         onUpdate={handleUpdate}
         currentUserEmail={currentUserEmail}
       />
+      {nextCursor != null && (
+        <Button
+          variant="outline-secondary"
+          size="sm"
+          className="w-100 mt-2"
+          onClick={fetchMoreComments}
+        >
+          댓글 더 보기
+        </Button>
+      )}
       <br />
       <CommentAdd boardId={boardId} onCommentSaved={fetchComments} />
     </div>
@@ -4,9 +4,10 @@ import { useContext, useEffect, useState } from "react";
 import { OverlayTrigger, Spinner, Tooltip } from "react-bootstrap";
 import { AuthenticationContext } from "../../common/AuthenticationContextProvider.jsx";
 
-export function ReviewLikeContainer({ reviewId }) {
+// initialLikeInfo: 목록에서 useReviewLikes 로 한 번에 받아 온 { liked, likeCount } (받기 전에는 undefined)
+export function ReviewLikeContainer({ reviewId, initialLikeInfo }) {
   const [isProcessing, setIsProcessing] = useState(false);
-  const [likeInfo, setLikeInfo] = useState(null);
+  const [likeInfo, setLikeInfo] = useState(initialLikeInfo ?? null);
   const { user } = useContext(AuthenticationContext);
 
   // 인증 헤더 생성 함수
@@ -17,23 +18,10 @@ export function ReviewLikeContainer({ reviewId }) {
     };
   };
 
-  // 좋아요 수 조회
-  function fetchLikeInfo() {
-    return axios
-      .get(`/api/reviewlike/review/${reviewId}`, {
-        headers: getAuthHeaders(),
-      })
-      .then((res) => setLikeInfo(res.data))
-      .catch((err) => {
-        console.error("리뷰 좋아요 정보 로딩 실패:", err);
-        setLikeInfo({ liked: false, likeCount: 0 });
-      });
-  }
-
+  // 목록 일괄 조회 결과가 오거나 바뀌면 반영
   useEffect(() => {
-    setIsProcessing(true);
-    fetchLikeInfo().finally(() => setIsProcessing(false));
-  }, [reviewId, user]);
+    setLikeInfo(initialLikeInfo ?? null);
+  }, [reviewId, initialLikeInfo]);
 
   function handleThumbsClick() {
     if (isProcessing || !user) return;
@@ -47,7 +35,10 @@ export function ReviewLikeContainer({ reviewId }) {
           headers: getAuthHeaders(),
         },
       )
-      .then(() => fetchLikeInfo())
+      // 토글 응답에 최신 수/여부가 담겨 오므로 다시 조회하지 않음
+      .then((res) =>
+        setLikeInfo({ liked: res.data.liked, likeCount: res.data.likeCount }),
+      )
       .catch((err) => console.error("리뷰 좋아요 처리 실패:", err))
       .finally(() => setIsProcessing(false));
   }
@@ -0,0 +1,63 @@
+import axios from "axios";
+import { useContext, useEffect, useState } from "react";
+import { AuthenticationContext } from "../../common/AuthenticationContextProvider.jsx";
+
+// 서버가 한 번에 받는 최대 리뷰 수 (ReviewLikeController.liked)
+const CHUNK = 500;
+
+// 리뷰 목록의 좋아요 수/여부를 한 번에 조회 → { [reviewId]: { liked, likeCount } }
+// (리뷰마다 /api/reviewlike/review/{id} 를 부르지 않도록 목록 쪽에서 한 번만)
+export function useReviewLikes(reviewIds) {
+  const { user } = useContext(AuthenticationContext);
+  const [likes, setLikes] = useState({});
+  const key = reviewIds.join(",");
+
+  useEffect(() => {
+    if (reviewIds.length === 0) {
+      setLikes({});
+      return;
+    }
+
+    let cancelled = false;
+    const chunks = [];
+    for (let i = 0; i < reviewIds.length; i += CHUNK) {
+      chunks.push(reviewIds.slice(i, i + CHUNK));
+    }
+
+    Promise.all(
+      chunks.map((ids) =>
+        axios.get("/api/reviewlike/liked", {
+          params: { reviewIds: ids.join(",") },
+        }),
+      ),
+    )
+      .then((responses) => {
+        if (cancelled) return;
+        const next = {};
+        responses.forEach((res) =>
+          res.data.forEach((info) => {
+            next[info.reviewId] = {
+              liked: info.liked,
+              likeCount: info.likeCount,
+            };
+          }),
+        );
+        setLikes(next);
+      })
+      .catch((err) => {
+        console.error("리뷰 좋아요 정보 로딩 실패:", err);
+        if (cancelled) return;
+        const fallback = {};
+        reviewIds.forEach((id) => {
+          fallback[id] = { liked: false, likeCount: 0 };
+        });
+        setLikes(fallback);
+      });
+
+    return () => {
+      cancelled = true;
+    };
+  }, [key, user]);
+
+  return likes;
+}
@@ -2,6 +2,7 @@ import React, { useContext, useEffect, useRef, useState } from "react";
 import { useParams, useSearchParams } from "react-router-dom";
 import { AuthenticationContext } from "../../common/AuthenticationContextProvider.jsx";
 import { ReviewLikeContainer } from "../like/ReviewLikeContainer.jsx";
+import { useReviewLikes } from "../like/useReviewLikes.jsx";
 import { FavoriteContainer } from "../kakaoMap/FavoriteContainer.jsx";
 import { get } from "../kakaoMap/data/api.jsx";
 import axios from "axios";
@@ -15,6 +16,9 @@ import { toast } from "react-toastify";
 import "react-toastify/dist/ReactToastify.css";
 import "../../styles/MapDetail.css";
 
+// 리뷰 피드 한 페이지 크기
+const FEED_SIZE = 10;
+
 export function MapDetail() {
   const { id } = useParams();
   const { user } = useContext(AuthenticationContext);
@@ -27,6 +31,9 @@ export function MapDetail() {
     name: "",
   });
   const [reviews, setReviews] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
+  const [reviewStats, setReviewStats] = useState(null);
   const [loadingFacility, setLoadingFacility] = useState(true);
   const [loadingReviews, setLoadingReviews] = useState(true);
   const [sortBy, setSortBy] = useState("latest");
@@ -34,6 +41,9 @@ export function MapDetail() {
 
   const reviewRefs = useRef({});
 
+  // 리뷰 목록의 좋아요 수/여부를 한 번에 (리뷰마다 조회하지 않음)
+  const likes = useReviewLikes(reviews.map((r) => r.id));
+
   // 신고 관련 상태
   const [reportModalOpen, setReportModalOpen] = useState(false);
   const [reportingReviewId, setReportingReviewId] = useState(null);
@@ -64,25 +74,73 @@ export function MapDetail() {
   // 그니까 얘는 한 번에 한 시설명에 대한 즐찾만 가져오니까 .. 잘 확인하고 있는거고,
   // MyReview는 각 리뷰에서 계속 isFavorite인지 확인해야함
 
+  // 최신순은 키셋 피드(페이지당 쿼리 수 고정)로 FEED_SIZE 개씩, 좋아요순은 서버 정렬 첫 페이지
   const fetchReviews = async () => {
     if (!id) return;
     setLoadingReviews(true);
     try {
-      const response = await axios.get(`/api/review/facility/${id}`, {
-        params: { sort: sortBy },
-      });
-      setReviews(response.data || []);
+      if (sortBy === "likes") {
+        const response = await axios.get(`/api/review/facility/${id}`, {
+          params: { sort: sortBy },
+        });
+        setReviews(response.data || []);
+        setNextCursor(null);
+      } else {
+        const response = await axios.get(`/api/review/facility/${id}/feed`, {
+          params: { size: FEED_SIZE },
+        });
+        setReviews(response.data.reviews || []);
+        setNextCursor(response.data.nextCursor ?? null);
+      }
     } catch (err) {
       console.error("리뷰 목록 조회 실패:", err);
       setReviews([]);
+      setNextCursor(null);
     } finally {
       setLoadingReviews(false);
     }
   };
 
+  const fetchMoreReviews = async () => {
+    if (!id || nextCursor == null || loadingMore) return;
+    setLoadingMore(true);
+    try {
+      const response = await axios.get(`/api/review/facility/${id}/feed`, {
+        params: { cursor: nextCursor, size: FEED_SIZE },
+      });
+      const more = response.data.reviews || [];
+      setReviews((prev) => {
+        const seen = new Set(prev.map((r) => r.id));
+        return [...prev, ...more.filter((r) => !seen.has(r.id))];
+      });
+      setNextCursor(response.data.nextCursor ?? null);
+    } catch (err) {
+      console.error("리뷰 더 보기 실패:", err);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
+  // 평점 통계는 시설 전체 기준 (불러온 페이지와 무관)
+  const fetchReviewStats = async () => {
+    if (!id) return;
+    try {
+      const response = await axios.get(`/api/review/facility/${id}/stats`);
+      setReviewStats(response.data);
+    } catch (err) {
+      console.error("평점 통계 조회 실패:", err);
+      setReviewStats(null);
+    }
+  };
+
+  const reloadReviews = () => {
+    fetchReviews();
+    fetchReviewStats();
+  };
+
   // 리뷰 핸들러
   const handleUpdate = (reviewId) => {
-    fetchReviews();
+    reloadReviews();
     setSearchParams({ focusReviewId: reviewId });
   };
   const handleDelete = async (reviewId) => {
@@ -92,7 +150,7 @@ export function MapDetail() {
       });
       setSearchParams({ focusReviewId: "" });
       toast.success("리뷰가 삭제되었습니다.");
-      fetchReviews();
+      reloadReviews();
     } catch (err) {
       console.error("리뷰 삭제 실패:", err);
       alert("삭제 실패: " + (err.response?.data?.message || err.message));
@@ -102,7 +160,7 @@ export function MapDetail() {
   const handleGoToWrite = () => setIsWriting(true);
   const handleReviewSaved = (reviewId) => {
     setIsWriting(false);
-    fetchReviews();
+    reloadReviews();
     setSearchParams({ focusReviewId: reviewId });
   };
   const handleReviewCancel = () => setIsWriting(false);
@@ -125,11 +183,6 @@ export function MapDetail() {
   };
 
   // 유틸
-  const getAverageRating = () => {
-    if (reviews.length === 0) return null;
-    const sum = reviews.reduce((acc, r) => acc + r.rating, 0);
-    return (sum / reviews.length).toFixed(1);
-  };
   const isImageFile = (fileUrl) => {
     const ext = fileUrl.split(".").pop().split("?")[0];
     return ["jpg", "jpeg", "png", "gif", "webp"].includes(ext.toLowerCase());
@@ -160,6 +213,10 @@ export function MapDetail() {
     fetchReviews();
   }, [id, sortBy]);
 
+  useEffect(() => {
+    fetchReviewStats();
+  }, [id]);
+
   useEffect(() => {
     // user가 undefined가 아니면 fetchFacility
     if (user !== undefined) fetchFacility();
@@ -281,9 +338,7 @@ export function MapDetail() {
         </div>
       )}
 
-      {reviews.length > 0 && (
-        <ReviewStatsCard reviews={reviews} averageRating={getAverageRating()} />
-      )}
+      <ReviewStatsCard stats={reviewStats} />
 
       {/* 사진/영상 */}
       <div className="row mb-5">
@@ -341,7 +396,7 @@ export function MapDetail() {
                     <h4 className="card-title mb-0">
                       리뷰 목록
                       <span className="badge bg-light text-dark ms-2">
-                        {reviews.length}
+                        {reviewStats?.total ?? reviews.length}
                       </span>
                     </h4>
                     <small className="opacity-75">
@@ -418,7 +473,10 @@ export function MapDetail() {
                       />
 
                       <div className="d-flex align-items-center gap-3 mt-4 pt-3 border-top px-4">
-                        <ReviewLikeContainer reviewId={review.id} />
+                        <ReviewLikeContainer
+                          reviewId={review.id}
+                          initialLikeInfo={likes[review.id]}
+                        />
                         <button
                           onClick={() => openReportModal(review)}
                           className="p-0 border-0 bg-transparent"
@@ -431,6 +489,21 @@ export function MapDetail() {
                       </div>
                     </div>
                   ))}
+                  {nextCursor != null && (
+                    <div className="text-center pt-4">
+                      <button
+                        className="btn btn-outline-success"
+                        onClick={fetchMoreReviews}
+                        disabled={loadingMore}
+                      >
+                        {loadingMore ? (
+                          <span className="spinner-border spinner-border-sm" />
+                        ) : (
+                          "리뷰 더 보기"
+                        )}
+                      </button>
+                    </div>
+                  )}
                 </div>
               )}
             </div>
@@ -1,18 +1,13 @@
 import React from "react";
 
-const ReviewStatsCard = ({ reviews, averageRating }) => {
-  if (!reviews || reviews.length === 0) return null;
+// stats: GET /api/review/facility/{id}/stats → { total, averageRating, distribution }
+// (리뷰 목록은 페이지 단위로 불러오므로 통계는 서버에서 시설 전체 기준으로)
+const ReviewStatsCard = ({ stats }) => {
+  if (!stats || !stats.total) return null;
 
-  const getRatingDistribution = () => {
-    const distribution = { 5: 0, 4: 0, 3: 0, 2: 0, 1: 0 };
-    reviews.forEach((review) => {
-      distribution[review.rating]++;
-    });
-    return distribution;
-  };
-
-  const distribution = getRatingDistribution();
-  const totalReviews = reviews.length;
+  const distribution = { 5: 0, 4: 0, 3: 0, 2: 0, 1: 0, ...stats.distribution };
+  const totalReviews = stats.total;
+  const averageRating = Number(stats.averageRating).toFixed(1);
 
   const RatingBar = ({ rating, count }) => {
     const percentage = totalReviews > 0 ? (count / totalReviews) * 100 : 0;
@@ -11,6 +11,7 @@
   } from "react-bootstrap";
   import { useNavigate } from "react-router-dom";
   import { ReviewLikeContainer } from "../like/ReviewLikeContainer.jsx";
+  import { useReviewLikes } from "../like/useReviewLikes.jsx";
   import ReportModal from "../report/ReportModal.jsx";
   import { AuthenticationContext } from "../../common/AuthenticationContextProvider.jsx";
   import { toast } from "react-toastify";
@@ -69,6 +70,9 @@
         return r.tags?.some((tag) => tag.name.includes(tagFilter.trim()));
       }) || [];
 
+    // 불러온 리뷰(최대 50개)의 좋아요 수/여부를 한 번에
+    const likes = useReviewLikes((reviews || []).map((r) => r.id));
+
     // 로딩
     if (!reviews) {
       return (
@@ -264,7 +268,11 @@
                         onClick={(e) => e.stopPropagation()}
                       >
                         <div className="like-container">
-                          <ReviewLikeContainer reviewId={r.id} compact={true} />
+                          <ReviewLikeContainer
+                            reviewId={r.id}
+                            initialLikeInfo={likes[r.id]}
+                            compact={true}
+                          />
                         </div>
 
                         <div className="report-container">
@@ -0,0 +1,69 @@
+# ---------------------------------------------------------------------------------
+-- listV2 필터 조합별 전/후 비교 (board_filter_dataset.sql 실행 후)
+--  1) "전" 측정: 인덱스를 내린 뒤 [OLD] 쿼리 실행
+--       ALTER TABLE board DROP INDEX idx_board_category_status_price,
+--                         DROP INDEX idx_board_region_status,
+--                         DROP INDEX idx_board_status_price;
+--  2) "후" 측정: prj04New.sql 의 인덱스 추가 후 [NEW] 쿼리 실행
+--  * ANALYZE FORMAT=JSON 의 r_total_time_ms / r_rows 를 조합별로 기록한다.
+--  * 각 쿼리는 3회 실행 후 마지막 값을 사용(버퍼 풀 워밍업).
+# ---------------------------------------------------------------------------------
+
+SET @kw = '', @cat = NULL, @ts = NULL, @minp = NULL, @maxp = NULL, @sido = NULL, @sigungu = NULL;
+
+-- 조합 A: 상태만            SET @ts = 'ON_SALE';
+-- 조합 B: 카테고리 + 상태   SET @cat = '반려동물용품', @ts = 'ON_SALE';
+-- 조합 C: 카테고리 + 가격   SET @cat = '디지털/가전', @minp = 100000, @maxp = 300000;
+-- 조합 D: 지역(시도+시군구) SET @sido = '경기도', @sigungu = '남구';
+-- 조합 E: 지역 + 상태       SET @sido = '서울특별시', @sigungu = '중구', @ts = 'RESERVED';
+-- 조합 F: 필터 없음(첫 페이지)
+
+# ---------------------------------------------------------------------------------
+-- [OLD] 기존 searchBoards: 댓글/좋아요/파일 LEFT JOIN + GROUP BY, LOWER(category)
+ANALYZE FORMAT=JSON
+SELECT b.id, b.title, m.nick_name, b.inserted_at,
+       COUNT(DISTINCT c.id), COUNT(DISTINCT l.member_id), COUNT(DISTINCT f.name),
+       b.trade_status, m.id, b.price, b.category, b.region_sido, b.region_sigungu,
+       b.view_count, b.like_count
+FROM board b
+         JOIN member m ON m.id = b.author
+         LEFT JOIN comment c ON c.board_id = b.id
+         LEFT JOIN board_like l ON l.board_id = b.id
+         LEFT JOIN board_file f ON f.board_id = b.id
+WHERE (@kw IS NULL OR @kw = '' OR LOWER(b.title) LIKE LOWER(CONCAT('%', @kw, '%'))
+    OR LOWER(b.content) LIKE LOWER(CONCAT('%', @kw, '%')) OR LOWER(m.nick_name) LIKE LOWER(CONCAT('%', @kw, '%')))
+  AND (@cat IS NULL OR @cat = '' OR LOWER(b.category) = LOWER(@cat))
+  AND (@ts IS NULL OR @ts = '' OR b.trade_status = @ts)
+  AND (@minp IS NULL OR b.price >= @minp)
+  AND (@maxp IS NULL OR b.price <= @maxp)
+  AND (@sido IS NULL OR @sido = '' OR b.region_sido = @sido)
+  AND (@sigungu IS NULL OR @sigungu = '' OR b.region_sigungu = @sigungu)
+GROUP BY b.id, b.title, m.nick_name, b.inserted_at, b.trade_status, m.id, b.price, b.category,
+         b.region_sido, b.region_sigungu, b.view_count, b.like_count
+ORDER BY b.id DESC
+LIMIT 18;
+
+# ---------------------------------------------------------------------------------
+-- [NEW] 변경된 searchBoards: 스칼라 서브쿼리 + 인덱스 친화적 조건
+--  * 애플리케이션은 JDBC 클라이언트 측 prepared statement 로 값을 리터럴로 치환하므로
+--    'X' IS NULL 같은 항은 옵티마이저가 상수로 접어 버린다. 여기서도 같은 효과를 보려면
+--    조합별로 값이 들어간 리터럴 버전을 실행할 것 (아래는 조합 B 예시).
+ANALYZE FORMAT=JSON
+SELECT b.id, b.title, m.nick_name, b.inserted_at,
+       (SELECT COUNT(*) FROM comment c WHERE c.board_id = b.id),
+       (SELECT COUNT(*) FROM board_like l WHERE l.board_id = b.id),
+       (SELECT COUNT(*) FROM board_file f WHERE f.board_id = b.id),
+       b.trade_status, m.id, b.price, b.category, b.region_sido, b.region_sigungu,
+       b.view_count, b.like_count
+FROM board b
+         JOIN member m ON m.id = b.author
+WHERE b.category = '반려동물용품'
+  AND b.trade_status = 'ON_SALE'
+ORDER BY b.id DESC
+LIMIT 18;
+
+ANALYZE FORMAT=JSON
+SELECT COUNT(*)
+FROM board b
+WHERE b.category = '반려동물용품'
+  AND b.trade_status = 'ON_SALE';
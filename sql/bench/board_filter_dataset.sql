@@ -0,0 +1,48 @@
+# ---------------------------------------------------------------------------------
+-- listV2 필터 벤치마크용 데이터셋 (재현 가능: 난수 대신 seq 기반 결정적 분포 사용)
+--  * 반드시 별도 스키마(예: prj04_bench)에서 실행할 것. 운영 DB 금지!
+--  * MariaDB Sequence 엔진(seq_1_to_N) 필요 (10.1+ 기본 포함)
+--  * 회원 1,000명 / 게시글 200,000건 / 댓글 400,000건 / 좋아요 300,000건
+# ---------------------------------------------------------------------------------
+
+SET @bench_members = 1000;
+
+DELETE FROM board WHERE title LIKE '[bench]%';
+DELETE FROM member WHERE email LIKE 'bench%@bench.local';
+
+INSERT INTO member (email, password, nick_name, role)
+SELECT CONCAT('bench', seq, '@bench.local'), NULL, CONCAT('bench', seq), 'USER'
+FROM seq_1_to_1000;
+
+SET @first_member = (SELECT MIN(id) FROM member WHERE email LIKE 'bench%@bench.local');
+
+-- 카테고리 10종(프론트 CATEGORY_LIST) / 상태 3종(판매중 70%) / 시도 5종 × 시군구 5종 / 가격 0~999,000
+INSERT INTO board (title, content, author, price, category,
+                   trade_condition, trade_type, trade_status,
+                   region_sido, region_sigungu, view_count, like_count, inserted_at)
+SELECT CONCAT('[bench] 상품 ', s.seq),
+       CONCAT('벤치마크 본문 ', s.seq),
+       @first_member + (s.seq % @bench_members),
+       (s.seq * 7919 % 1000) * 1000,
+       ELT(1 + (s.seq % 10), '디지털/가전', '가구/인테리어', '유아동', '생활/가공식품', '스포츠/레저',
+           '여성의류', '남성의류', '게임/취미', '반려동물용품', '기타'),
+       ELT(1 + (s.seq % 4), 'NEW', 'LIKE_NEW', 'USED', 'FOR_PARTS'),
+       ELT(1 + (s.seq % 3), 'MEET', 'DELIVERY', 'ANY'),
+       CASE WHEN s.seq % 10 < 7 THEN 'ON_SALE' WHEN s.seq % 10 < 9 THEN 'RESERVED' ELSE 'SOLD_OUT' END,
+       ELT(1 + (s.seq % 5), '서울특별시', '경기도', '부산광역시', '인천광역시', '대구광역시'),
+       ELT(1 + ((s.seq DIV 5) % 5), '중구', '동구', '서구', '남구', '북구'),
+       0, 0,
+       NOW() - INTERVAL (200000 - s.seq) MINUTE
+FROM seq_1_to_200000 s;
+
+SET @first_board = (SELECT MIN(id) FROM board WHERE title LIKE '[bench]%');
+
+INSERT INTO comment (board_id, comment, author)
+SELECT @first_board + (s.seq % 200000), CONCAT('댓글 ', s.seq), @first_member + (s.seq % @bench_members)
+FROM seq_1_to_400000 s;
+
+INSERT IGNORE INTO board_like (board_id, member_id)
+SELECT @first_board + (s.seq * 31 % 200000), @first_member + (s.seq % @bench_members)
+FROM seq_1_to_300000 s;
+
+ANALYZE TABLE board, comment, board_like, board_file, member;
@@ -481,4 +481,101 @@ CREATE TABLE member_review_stat (
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 ALTER TABLE trade_review
-    MODIFY COLUMN rating INT NOT NULL;
\ No newline at end of file
+    MODIFY COLUMN rating INT NOT NULL;
+
+# ---------------------------------------------------------------------------------
+-- 중고거래 목록 필터(listV2 → searchBoards) 인덱스
+--  * 등치 조건 컬럼을 앞에, 범위 조건(price)을 뒤에 둔다.
+--  * 이 인덱스들은 필터(WHERE) 용이다. 정렬(ORDER BY id DESC)까지 인덱스로 끝나는 것은
+--    인덱스의 모든 컬럼이 등치로 걸린 경우뿐 (그때만 뒤에 붙은 PK(id) 순서가 된다).
+--    예) category + trade_status 만 걸리면 (price, id) 순이므로 걸러진 행을 filesort 한 뒤 LIMIT.
+--  * COUNT 쿼리는 board 필터 컬럼만 참조하므로 아래 인덱스만으로 처리(커버링)된다.
+--  * 벤치마크: sql/bench/board_filter_dataset.sql → sql/bench/board_filter_bench.sql
+ALTER TABLE `board`
+    ADD INDEX `idx_board_category_status_price` (`category`, `trade_status`, `price`),
+    ADD INDEX `idx_board_region_status` (`region_sido`, `region_sigungu`, `trade_status`),
+    ADD INDEX `idx_board_status_price` (`trade_status`, `price`);
+
+# ---------------------------------------------------------------------------------
+-- 관심 검색(saved search): 새 글이 조건에 맞으면 /user/queue/saved-search 로 알림
+--  * 매칭은 애플리케이션 메모리 인덱스(SavedSearchIndex)에서 수행, 테이블은 기동 시 적재용
+CREATE TABLE saved_search
+(
+    id             BIGINT AUTO_INCREMENT PRIMARY KEY,
+    member_id      BIGINT       NOT NULL,
+    keyword        VARCHAR(100) NULL,
+    category       VARCHAR(50)  NULL,
+    trade_status   VARCHAR(20)  NULL,
+    min_price      INT          NULL,
+    max_price      INT          NULL,
+    region_sido    VARCHAR(30)  NULL,
+    region_sigungu VARCHAR(30)  NULL,
+    inserted_at    DATETIME     NOT NULL DEFAULT NOW(),
+    INDEX idx_saved_search_member (member_id),
+    CONSTRAINT fk_saved_search_member FOREIGN KEY (member_id) REFERENCES member (id) ON DELETE CASCADE
+);
+
+# ---------------------------------------------------------------------------------
+-- board.like_count 를 좋아요 토글에서 직접 유지하기 시작하므로 기존 값 1회 맞춤
+--  (이후 드리프트는 BoardLikeReconciler 가 주기적으로 보정)
+UPDATE board b
+SET b.like_count = (SELECT COUNT(*) FROM board_like l WHERE l.board_id = b.id);
+
+# ---------------------------------------------------------------------------------
+-- 채팅방 목록: 방별 마지막 메시지 / 참가자별 안 읽은 수를 컬럼으로 유지
+--  * saveMessage: chat_room.last_message_id 전진, 상대 unread_count +1, 보낸 사람 0
+--  * markRead   : last_read_message_id 전진 + 이후 상대 메시지 수로 unread_count 재계산
+--  * listMyRooms 는 (member_id, room_id) 인덱스에서 시작하는 조인 하나로 끝난다
+ALTER TABLE chat_room
+    ADD COLUMN last_message_id BIGINT NULL;
+
+ALTER TABLE chat_participant
+    ADD COLUMN unread_count INT NOT NULL DEFAULT 0,
+    ADD INDEX idx_cp_member_room (member_id, room_id);
+
+-- 기존 데이터 백필
+UPDATE chat_room r
+SET r.last_message_id = (SELECT MAX(m.id) FROM chat_message m WHERE m.room_id = r.id);
+
+UPDATE chat_participant p
+SET p.unread_count = (
+    SELECT COUNT(*)
+    FROM chat_message m
+    WHERE m.room_id = p.room_id
+      AND m.sender_id <> p.member_id
+      AND m.id > COALESCE(p.last_read_message_id, 0)
+);
+
+# ---------------------------------------------------------------------------------
+-- 채팅 메시지 페이지(after/before/latest) 는 모두 (room_id, id) 범위 스캔 + LIMIT
+--  (ChatMessage 엔티티에 선언된 인덱스, 운영 DB 에 없으면 생성)
+CREATE INDEX IF NOT EXISTS IDX_cm_room_id_id ON chat_message (room_id, id);
+
+# ---------------------------------------------------------------------------------
+-- 채팅 메시지 보관: 보관 기간(app.chat.archive.retention-days, 기본 90일)이 지난 메시지를
+-- 방 + 하루 단위 gzip 묶음으로 옮기고 chat_message 에서는 삭제 (ChatMessageArchiver)
+--  * first_id ~ last_id 는 원래 chat_message.id 구간 → 페이지 커서가 그대로 이어진다
+CREATE TABLE chat_message_archive
+(
+    id            BIGINT AUTO_INCREMENT NOT NULL PRIMARY KEY,
+    room_id       BIGINT                NOT NULL,
+    first_id      BIGINT                NOT NULL,
+    last_id       BIGINT                NOT NULL,
+    message_count INT                   NOT NULL,
+    first_at      DATETIME              NULL,
+    last_at       DATETIME              NULL,
+    payload       LONGBLOB              NOT NULL,
+    archived_at   DATETIME              NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX IDX_cma_room_last_id (room_id, last_id)
+);
+
+# ---------------------------------------------------------------------------------
+-- 리뷰 좋아요 수를 컬럼으로 유지 (ReviewLikeService 토글에서 ±1)
+--  * "좋아요순" 목록은 (facility_id, like_count DESC, inserted_at DESC) 인덱스 범위 스캔
+ALTER TABLE review
+    ADD COLUMN like_count INT NOT NULL DEFAULT 0;
+
+UPDATE review r
+SET r.like_count = (SELECT COUNT(*) FROM review_like l WHERE l.review_id = r.id);
+
+CREATE INDEX idx_review_facility_likes ON review (facility_id, like_count DESC, inserted_at DESC);